@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Runs the JMH benchmarks at two revisions and keeps both results in build/reports/jmh/<revision>.json, e.g.
+#   bash benchmarks/compare.sh 'HEAD~1' HEAD DroolsEditingBenchmark
+# The benchmark sources and the build script of the working tree are used at both revisions, so revisions older
+# than the benchmarks can be measured as long as the benchmarks still compile against them.
+set -euo pipefail
+
+if [ $# -lt 2 ]; then
+  echo "usage: $0 <before> <after> [benchmark regexp]" >&2
+  exit 1
+fi
+
+root=$(git rev-parse --show-toplevel)
+out="$root/build/reports/jmh"
+mkdir -p "$out"
+
+worktree=""
+remove_worktree() {
+  if [ -n "$worktree" ]; then
+    git -C "$root" worktree remove --force "$worktree" || rm -rf "$worktree"
+    worktree=""
+  fi
+}
+trap remove_worktree EXIT
+
+for revision in "$1" "$2"; do
+  name=$(git -C "$root" rev-parse --short "$revision")
+  worktree=$(mktemp -d)
+  git -C "$root" worktree add --detach "$worktree" "$revision"
+  rm -rf "$worktree/benchmarks"
+  cp -R "$root/benchmarks" "$worktree/benchmarks"
+  cp "$root/build.gradle" "$worktree/build.gradle"
+
+  (cd "$worktree" && bash ./gradlew benchmarks -Pjmh="${3:-Drools}" -PjmhResults="$name")
+  cp "$worktree/build/reports/jmh/$name.json" "$out/$name.json"
+  remove_worktree
+  echo "$revision: $out/$name.json"
+done
@@ -0,0 +1,34 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.benchmarks;
+
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.fixtures.*;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Light Java project with one open DRL file, for the benchmarks that need an editor, a document or resolve.
+ * JMH calls benchmarks on its own threads, so every use of the fixture is wrapped in {@link EdtTestUtil}.
+ */
+final class DroolsBenchmarkFixture {
+  private DroolsBenchmarkFixture() {
+  }
+
+  static @NotNull JavaCodeInsightTestFixture create(@NotNull String fileText) {
+    return EdtTestUtil.runInEdtAndGet(() -> {
+      final TestFixtureBuilder<IdeaProjectTestFixture> builder = IdeaTestFixtureFactory.getFixtureFactory()
+        .createLightFixtureBuilder(LightJavaCodeInsightFixtureTestCase.JAVA_21, "drools-benchmark");
+      final JavaCodeInsightTestFixture fixture = JavaTestFixtureFactory.getFixtureFactory().createCodeInsightFixture(builder.getFixture());
+      fixture.setUp();
+      fixture.allowTreeAccessForAllFiles();
+      fixture.configureByText("benchmark.drl", fileText);
+      fixture.getFile().accept(new PsiRecursiveElementWalkingVisitor() {
+      });
+      return fixture;
+    });
+  }
+
+  static void dispose(@NotNull CodeInsightTestFixture fixture) {
+    EdtTestUtil.runInEdtAndWait(fixture::tearDown);
+  }
+}
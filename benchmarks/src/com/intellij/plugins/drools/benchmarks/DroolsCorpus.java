@@ -0,0 +1,109 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.benchmarks;
+
+import com.intellij.openapi.util.text.StringUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * DRL texts the benchmarks run over: the files of tests/testData/examples and tests/testData/parser,
+ * or the same files concatenated into one synthetic file of 1, 10 or 50 MB.
+ */
+public final class DroolsCorpus {
+  /**
+   * Benchmark parameter value for the corpus files as they are; any other value is a synthetic file size such as {@code 10MB}.
+   */
+  public static final String FILES = "files";
+
+  private static final String TEST_DATA_PROPERTY = "drools.testData";
+  private static final String[] CORPUS_DIRECTORIES = {"examples", "parser"};
+  private static final Pattern PACKAGE_STATEMENT = Pattern.compile("(?m)^\\s*package\\s+[\\w.]+\\s*;?");
+
+  private DroolsCorpus() {
+  }
+
+  public static @NotNull List<String> texts(@NotNull String corpus) throws IOException {
+    final List<String> files = load();
+    if (FILES.equals(corpus)) return files;
+
+    final int megabytes = Integer.parseInt(StringUtil.trimEnd(corpus, "MB"));
+    return List.of(scale(files, megabytes * 1024 * 1024));
+  }
+
+  public static @NotNull List<String> load() throws IOException {
+    final Path root = Path.of(System.getProperty(TEST_DATA_PROPERTY, "tests/testData"));
+    final List<String> texts = new ArrayList<>();
+    for (String directory : CORPUS_DIRECTORIES) {
+      try (Stream<Path> files = Files.walk(root.resolve(directory))) {
+        for (Path file : files.filter(file -> file.toString().endsWith(".drl")).sorted().toList()) {
+          texts.add(StringUtil.convertLineSeparators(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)));
+        }
+      }
+    }
+    if (texts.isEmpty()) throw new IllegalStateException("No .drl files under " + root.toAbsolutePath());
+    return texts;
+  }
+
+  /**
+   * Repeats the corpus until the text reaches {@code size} characters. Package statements are kept for the first file only,
+   * so the result is one compilation unit with many imports, declarations, functions and rules.
+   */
+  public static @NotNull String scale(@NotNull List<String> corpus, int size) {
+    final StringBuilder builder = new StringBuilder(size + 64 * 1024);
+    for (int i = 0; builder.length() < size; i = (i + 1) % corpus.size()) {
+      final String text = corpus.get(i);
+      builder.append(builder.isEmpty() ? text : PACKAGE_STATEMENT.matcher(text).replaceAll("")).append('\n');
+    }
+    return builder.toString();
+  }
+
+  /**
+   * A function of {@code functionLines} lines followed by {@code rules} rules of ten lines each, with Java consequences
+   * that resolve against JDK classes only.
+   */
+  public static @NotNull String generateRules(int rules, int functionLines) {
+    final StringBuilder builder = new StringBuilder("package org.drools.benchmark;\n\n");
+    builder.append("function int weigh(int value) {\n  int total = 0;\n");
+    for (int i = 0; i < functionLines; i++) {
+      builder.append("  total += value * ").append(i).append(";\n");
+    }
+    builder.append("  return total;\n}\n\n");
+    for (int i = 0; i < rules; i++) {
+      builder.append("rule \"rule_").append(i).append("\"\n")
+        .append("when\n")
+        .append("  $s : String(length > ").append(i).append(")\n")
+        .append("  $i : Integer(intValue < ").append(i).append(")\n")
+        .append("then\n")
+        .append("  String copy = $s.trim();\n")
+        .append("  int sum = $i + copy.length() + weigh(").append(i).append(");\n")
+        .append("  System.out.println(copy.toUpperCase() + sum);\n")
+        .append("  insert(copy + sum);\n")
+        .append("end\n\n");
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Offset right after a number in the middle of a {@link #generateRules} text: in a rule condition ({@code lhs}),
+   * a consequence statement ({@code rhs}) or the function body ({@code function}).
+   */
+  public static int editOffset(@NotNull String generated, int rules, int functionLines, @NotNull String position) {
+    final String anchor = switch (position) {
+      case "lhs" -> "length > " + rules / 2 + ")";
+      case "rhs" -> "weigh(" + rules / 2 + ")";
+      case "function" -> "value * " + functionLines / 2 + ";";
+      default -> throw new IllegalArgumentException(position);
+    };
+    final int offset = generated.indexOf(anchor);
+    if (offset < 0) throw new IllegalStateException("No " + anchor + " in the generated text");
+    return offset + anchor.length() - 1;
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.benchmarks;
+
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typing latency in a 22,000-line DRL file: one operation types a digit and deletes it again, committing the document
+ * after each keystroke. This covers the editor highlighter relexing and the incremental reparse of the edited rule
+ * condition, consequence statement or function body. {@code psiEvents} sums the PSI tree change events of all
+ * operations; divide it by the operation count for the events per keystroke pair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DroolsEditingBenchmark {
+  private static final int RULES = 2000;
+  private static final int FUNCTION_LINES = 300;
+
+  @Param({"lhs", "rhs", "function"})
+  public String position;
+
+  private CodeInsightTestFixture myFixture;
+  private long myPsiEvents;
+
+  @Setup
+  public void setUp() {
+    final String text = DroolsCorpus.generateRules(RULES, FUNCTION_LINES);
+    myFixture = DroolsBenchmarkFixture.create(text);
+    EdtTestUtil.runInEdtAndWait(() -> {
+      myFixture.getEditor().getCaretModel().moveToOffset(DroolsCorpus.editOffset(text, RULES, FUNCTION_LINES, position));
+      PsiManager.getInstance(myFixture.getProject()).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+        @Override
+        public void childAdded(@NotNull PsiTreeChangeEvent event) {
+          myPsiEvents++;
+        }
+
+        @Override
+        public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+          myPsiEvents++;
+        }
+
+        @Override
+        public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+          myPsiEvents++;
+        }
+
+        @Override
+        public void childMoved(@NotNull PsiTreeChangeEvent event) {
+          myPsiEvents++;
+        }
+
+        @Override
+        public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+          myPsiEvents++;
+        }
+      }, myFixture.getTestRootDisposable());
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    DroolsBenchmarkFixture.dispose(myFixture);
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class PsiEvents {
+    public long psiEvents;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      psiEvents = 0;
+    }
+  }
+
+  @Benchmark
+  public void typeAndDelete(PsiEvents events) {
+    EdtTestUtil.runInEdtAndWait(() -> {
+      final long before = myPsiEvents;
+      type('1');
+      type('\b');
+      events.psiEvents += myPsiEvents - before;
+    });
+  }
+
+  private void type(char c) {
+    myFixture.type(c);
+    PsiDocumentManager.getInstance(myFixture.getProject()).commitAllDocuments();
+  }
+}
@@ -0,0 +1,65 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.benchmarks;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsFlexLexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsLexer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens per second of the generated flex lexer alone and of {@link DroolsLexer}, which adds the lookahead over
+ * consequences, chunks and block expressions on top of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DroolsLexerBenchmark {
+  @Param({DroolsCorpus.FILES, "1MB", "10MB", "50MB"})
+  public String corpus;
+
+  private List<String> myTexts;
+
+  @Setup
+  public void setUp() throws IOException {
+    myTexts = DroolsCorpus.texts(corpus);
+  }
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Tokens {
+    public long tokens;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      tokens = 0;
+    }
+  }
+
+  @Benchmark
+  public void flexLexer(Tokens tokens) {
+    tokens.tokens += lex(new DroolsFlexLexer());
+  }
+
+  @Benchmark
+  public void droolsLexer(Tokens tokens) {
+    tokens.tokens += lex(new DroolsLexer());
+  }
+
+  private long lex(Lexer lexer) {
+    long tokens = 0;
+    for (String text : myTexts) {
+      lexer.start(text);
+      for (; lexer.getTokenType() != null; lexer.advance()) {
+        tokens++;
+      }
+    }
+    return tokens;
+  }
+}
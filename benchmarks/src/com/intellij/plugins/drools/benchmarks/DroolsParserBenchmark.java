@@ -0,0 +1,96 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.benchmarks;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclarationsScanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing in the headless {@link DroolsParsingHarness}: the Drools tree with chameleons left unparsed, the expansion of
+ * those chameleons by the Java parser, and the lexer-only declarations scan the declare statement index runs instead
+ * of parsing. {@code files} counts files per second, comparable between {@link #parse} and {@link #scanDeclarations}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DroolsParserBenchmark {
+  @Param({DroolsCorpus.FILES, "1MB", "10MB", "50MB"})
+  public String corpus;
+
+  private final DroolsParsingHarness myHarness = new DroolsParsingHarness();
+  private List<String> myTexts;
+
+  @Setup
+  public void setUp() throws Exception {
+    myHarness.open();
+    myTexts = DroolsCorpus.texts(corpus);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    myHarness.close();
+  }
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Files {
+    public long files;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      files = 0;
+    }
+  }
+
+  /**
+   * Drools trees with their chameleons still unparsed, rebuilt before every invocation.
+   */
+  @State(Scope.Thread)
+  public static class Chameleons {
+    private final List<ASTNode> myChameleons = new ArrayList<>();
+
+    @Setup(Level.Invocation)
+    public void parse(DroolsParserBenchmark benchmark) {
+      myChameleons.clear();
+      for (String text : benchmark.myTexts) {
+        DroolsParsingHarness.visit(benchmark.myHarness.parse(text), false, myChameleons);
+      }
+    }
+  }
+
+  @Benchmark
+  public int parse(Files files) {
+    int nodes = 0;
+    for (String text : myTexts) {
+      nodes += DroolsParsingHarness.visit(myHarness.parse(text), false, null);
+    }
+    files.files += myTexts.size();
+    return nodes;
+  }
+
+  @Benchmark
+  public int expandChameleons(Chameleons chameleons) {
+    int nodes = 0;
+    for (ASTNode chameleon : chameleons.myChameleons) {
+      nodes += DroolsParsingHarness.visit(chameleon, true, null);
+    }
+    return nodes;
+  }
+
+  @Benchmark
+  public int scanDeclarations(Files files) {
+    int declarations = 0;
+    for (String text : myTexts) {
+      declarations += DroolsDeclarationsScanner.scan(text).getDeclaredTypes().size();
+    }
+    files.files += myTexts.size();
+    return declarations;
+  }
+}
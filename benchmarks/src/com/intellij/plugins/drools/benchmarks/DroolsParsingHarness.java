@@ -0,0 +1,69 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.benchmarks;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.LanguageASTFactory;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.lang.java.JavaParserDefinition;
+import com.intellij.plugins.drools.lang.parser.DroolsParserDefinition;
+import com.intellij.psi.impl.source.tree.JavaASTFactory;
+import com.intellij.psi.tree.IFileElementType;
+import com.intellij.psi.tree.ILazyParseableElementType;
+import com.intellij.testFramework.ParsingTestCase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Headless parsing environment: the mock application of {@link ParsingTestCase} with the Drools and Java
+ * parser definitions, set up as in DroolsParserTest. There is no project model, index or editor.
+ */
+public final class DroolsParsingHarness extends ParsingTestCase {
+  public DroolsParsingHarness() {
+    super("parser", "drl", new DroolsParserDefinition(), new JavaParserDefinition());
+    setName("benchmark");
+  }
+
+  public void open() throws Exception {
+    setUp();
+    addExplicitExtension(LanguageASTFactory.INSTANCE, JavaLanguage.INSTANCE, new JavaASTFactory());
+  }
+
+  public void close() throws Exception {
+    tearDown();
+  }
+
+  /**
+   * @return the file node of {@code text}, parsed on first access to its children
+   */
+  public @NotNull ASTNode parse(@NotNull String text) {
+    return createPsiFile("benchmark", text).getNode();
+  }
+
+  /**
+   * Walks the tree without recursion and returns the number of nodes. Chameleons are expanded if {@code expandChameleons}
+   * is set; otherwise they are counted as leaves and added to {@code chameleons} if it is not null.
+   */
+  public static int visit(@NotNull ASTNode root, boolean expandChameleons, @Nullable List<ASTNode> chameleons) {
+    int nodes = 0;
+    ASTNode node = root;
+    while (node != null) {
+      nodes++;
+      final boolean chameleon = node != root && isChameleon(node);
+      if (chameleon && chameleons != null) chameleons.add(node);
+
+      ASTNode next = expandChameleons || !chameleon ? node.getFirstChildNode() : null;
+      while (next == null && node != root) {
+        next = node.getTreeNext();
+        if (next == null) node = node.getTreeParent();
+      }
+      node = next;
+    }
+    return nodes;
+  }
+
+  private static boolean isChameleon(@NotNull ASTNode node) {
+    return node.getElementType() instanceof ILazyParseableElementType && !(node.getElementType() instanceof IFileElementType);
+  }
+}
@@ -0,0 +1,56 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.benchmarks;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolve of every Java reference in the consequences of an RHS-heavy file, with PSI caches dropped before each
+ * operation as after an edit. Bound variables, functions and JDK members all go through the Drools declaration processors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DroolsResolveBenchmark {
+  @Param({"100", "1000"})
+  public int rules;
+
+  private CodeInsightTestFixture myFixture;
+
+  @Setup
+  public void setUp() {
+    myFixture = DroolsBenchmarkFixture.create(DroolsCorpus.generateRules(rules, 10));
+  }
+
+  @TearDown
+  public void tearDown() {
+    DroolsBenchmarkFixture.dispose(myFixture);
+  }
+
+  @Benchmark
+  public int resolveConsequences() {
+    return EdtTestUtil.runInEdtAndGet(() -> {
+      PsiManager.getInstance(myFixture.getProject()).dropPsiCaches();
+      final int[] resolved = {0};
+      myFixture.getFile().accept(new PsiRecursiveElementWalkingVisitor() {
+        @Override
+        public void visitElement(@NotNull PsiElement element) {
+          if (element instanceof PsiJavaCodeReferenceElement reference && reference.resolve() != null) resolved[0]++;
+          super.visitElement(element);
+        }
+      });
+      return resolved[0];
+    });
+  }
+}
@@ -7,6 +7,7 @@ import com.intellij.psi.tree.IElementType;
 import com.intellij.psi.PsiElement;
 import com.intellij.lang.ASTNode;
 import com.intellij.plugins.drools.lang.psi.impl.*;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsStubElementTypes;
 
 public interface DroolsTokenTypes {
 
@@ -36,7 +37,7 @@ public interface DroolsTokenTypes {
   IElementType CREATED_QUALIFIED_IDENTIFIER = new DroolsElementType("CREATED_QUALIFIED_IDENTIFIER");
   IElementType CREATOR = new DroolsElementType("CREATOR");
   IElementType DECIMAL = new DroolsElementType("DECIMAL");
-  IElementType DECLARE_STATEMENT = new DroolsElementType("DECLARE_STATEMENT");
+  IElementType DECLARE_STATEMENT = DroolsStubElementTypes.getStubElementType("DECLARE_STATEMENT");
   IElementType ELEMENT_VALUE = new DroolsElementType("ELEMENT_VALUE");
   IElementType ELEMENT_VALUE_ARRAY_INITIALIZER = new DroolsElementType("ELEMENT_VALUE_ARRAY_INITIALIZER");
   IElementType ELEMENT_VALUE_PAIR = new DroolsElementType("ELEMENT_VALUE_PAIR");
@@ -44,7 +45,7 @@ public interface DroolsTokenTypes {
   IElementType ENTRY_POINT_DECLARATION = new DroolsElementType("ENTRY_POINT_DECLARATION");
   IElementType ENTRY_POINT_NAME = new DroolsElementType("ENTRY_POINT_NAME");
   IElementType ENUMERATIVE = new DroolsElementType("ENUMERATIVE");
-  IElementType ENUM_DECLARATION = new DroolsElementType("ENUM_DECLARATION");
+  IElementType ENUM_DECLARATION = DroolsStubElementTypes.getStubElementType("ENUM_DECLARATION");
   IElementType EQUALITY_EXPR = new DroolsElementType("EQUALITY_EXPR");
   IElementType EXCLUSIVE_OR_EXPR = new DroolsElementType("EXCLUSIVE_OR_EXPR");
   IElementType EXPLICIT_GENERIC_INVOCATION = new DroolsElementType("EXPLICIT_GENERIC_INVOCATION");
@@ -60,12 +61,12 @@ public interface DroolsTokenTypes {
   IElementType FROM_EXPRESSION = new DroolsElementType("FROM_EXPRESSION");
   IElementType FROM_WINDOW = new DroolsElementType("FROM_WINDOW");
   IElementType FUNCTION_NAME = new DroolsElementType("FUNCTION_NAME");
-  IElementType FUNCTION_STATEMENT = new DroolsElementType("FUNCTION_STATEMENT");
-  IElementType GLOBAL_STATEMENT = new DroolsElementType("GLOBAL_STATEMENT");
+  IElementType FUNCTION_STATEMENT = DroolsStubElementTypes.getStubElementType("FUNCTION_STATEMENT");
+  IElementType GLOBAL_STATEMENT = DroolsStubElementTypes.getStubElementType("GLOBAL_STATEMENT");
   IElementType IDENTIFIER = new DroolsElementType("IDENTIFIER");
   IElementType IDENTIFIER_SUFFIX = new DroolsElementType("IDENTIFIER_SUFFIX");
   IElementType IMPORT_QUALIFIER = new DroolsElementType("IMPORT_QUALIFIER");
-  IElementType IMPORT_STATEMENT = new DroolsElementType("IMPORT_STATEMENT");
+  IElementType IMPORT_STATEMENT = DroolsStubElementTypes.getStubElementType("IMPORT_STATEMENT");
   IElementType INCLUSIVE_OR_EXPR = new DroolsElementType("INCLUSIVE_OR_EXPR");
   IElementType INNER_CREATOR = new DroolsElementType("INNER_CREATOR");
   IElementType INSERT_LOGICAL_RHS_STATEMENT = new DroolsElementType("INSERT_LOGICAL_RHS_STATEMENT");
@@ -103,7 +104,7 @@ public interface DroolsTokenTypes {
   IElementType NULL_LITERAL = new DroolsElementType("NULL_LITERAL");
   IElementType NUMBER_LITERAL = new DroolsElementType("NUMBER_LITERAL");
   IElementType OPERATOR = new DroolsElementType("OPERATOR");
-  IElementType PACKAGE_STATEMENT = new DroolsElementType("PACKAGE_STATEMENT");
+  IElementType PACKAGE_STATEMENT = DroolsStubElementTypes.getStubElementType("PACKAGE_STATEMENT");
   IElementType PARAMETER = new DroolsElementType("PARAMETER");
   IElementType PARAMETERS = new DroolsElementType("PARAMETERS");
   IElementType PARENT_RULE = new DroolsElementType("PARENT_RULE");
@@ -115,14 +116,14 @@ public interface DroolsTokenTypes {
   IElementType QUALIFIED_IDENTIFIER = new DroolsElementType("QUALIFIED_IDENTIFIER");
   IElementType QUALIFIED_NAME = new DroolsElementType("QUALIFIED_NAME");
   IElementType QUERY_EXPRESSION = new DroolsElementType("QUERY_EXPRESSION");
-  IElementType QUERY_STATEMENT = new DroolsElementType("QUERY_STATEMENT");
+  IElementType QUERY_STATEMENT = DroolsStubElementTypes.getStubElementType("QUERY_STATEMENT");
   IElementType RELATIONAL_EXPR = new DroolsElementType("RELATIONAL_EXPR");
   IElementType RELATIONAL_OPERATOR = new DroolsElementType("RELATIONAL_OPERATOR");
   IElementType RETRACT_RHS_STATEMENT = new DroolsElementType("RETRACT_RHS_STATEMENT");
   IElementType RHS = new DroolsElementType("RHS");
   IElementType RULE_ATTRIBUTES = new DroolsElementType("RULE_ATTRIBUTES");
   IElementType RULE_NAME = new DroolsElementType("RULE_NAME");
-  IElementType RULE_STATEMENT = new DroolsElementType("RULE_STATEMENT");
+  IElementType RULE_STATEMENT = DroolsStubElementTypes.getStubElementType("RULE_STATEMENT");
   IElementType SELECTOR = new DroolsElementType("SELECTOR");
   IElementType SHIFT_EXPR = new DroolsElementType("SHIFT_EXPR");
   IElementType SIMPLE_NAME = new DroolsElementType("SIMPLE_NAME");
@@ -136,14 +137,14 @@ public interface DroolsTokenTypes {
   IElementType TYPE = new DroolsElementType("TYPE");
   IElementType TYPE_ARGUMENT = new DroolsElementType("TYPE_ARGUMENT");
   IElementType TYPE_ARGUMENTS = new DroolsElementType("TYPE_ARGUMENTS");
-  IElementType TYPE_DECLARATION = new DroolsElementType("TYPE_DECLARATION");
+  IElementType TYPE_DECLARATION = DroolsStubElementTypes.getStubElementType("TYPE_DECLARATION");
   IElementType TYPE_NAME = new DroolsElementType("TYPE_NAME");
   IElementType UNARY_2_EXPR = new DroolsElementType("UNARY_2_EXPR");
   IElementType UNARY_ASSIGN_EXPR = new DroolsElementType("UNARY_ASSIGN_EXPR");
   IElementType UNARY_EXPR = new DroolsElementType("UNARY_EXPR");
   IElementType UNARY_NOT_PLUS_MINUS_EXPR = new DroolsElementType("UNARY_NOT_PLUS_MINUS_EXPR");
   IElementType UNIT_NAME = new DroolsElementType("UNIT_NAME");
-  IElementType UNIT_STATEMENT = new DroolsElementType("UNIT_STATEMENT");
+  IElementType UNIT_STATEMENT = DroolsStubElementTypes.getStubElementType("UNIT_STATEMENT");
   IElementType UPDATE_RHS_STATEMENT = new DroolsElementType("UPDATE_RHS_STATEMENT");
   IElementType VARIABLE_INITIALIZER = new DroolsElementType("VARIABLE_INITIALIZER");
   IElementType VAR_TYPE = new DroolsElementType("VAR_TYPE");
@@ -4,8 +4,10 @@ package com.intellij.plugins.drools.lang.psi;
 import java.util.List;
 import org.jetbrains.annotations.*;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsDeclareStatementStub;
 
-public interface DroolsDeclareStatement extends DroolsPsiCompositeElement {
+public interface DroolsDeclareStatement extends DroolsPsiCompositeElement, StubBasedPsiElement<DroolsDeclareStatementStub> {
 
   @Nullable
   DroolsEntryPointDeclaration getEntryPointDeclaration();
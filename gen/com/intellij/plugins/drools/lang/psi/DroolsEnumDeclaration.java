@@ -6,8 +6,10 @@ package com.intellij.plugins.drools.lang.psi;
 import java.util.List;
 import org.jetbrains.annotations.*;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsTypeDeclarationStub;
 
-public interface DroolsEnumDeclaration extends DroolsPsiClass {
+public interface DroolsEnumDeclaration extends DroolsPsiClass, StubBasedPsiElement<DroolsTypeDeclarationStub> {
 
   @NotNull
   List<DroolsAnnotation> getAnnotationList();
@@ -4,8 +4,10 @@ package com.intellij.plugins.drools.lang.psi;
 import java.util.List;
 import org.jetbrains.annotations.*;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsPackageStatementStub;
 
-public interface DroolsPackageStatement extends DroolsPsiCompositeElement {
+public interface DroolsPackageStatement extends DroolsPsiCompositeElement, StubBasedPsiElement<DroolsPackageStatementStub> {
 
   @NotNull
   DroolsNamespace getNamespace();
@@ -4,8 +4,10 @@ package com.intellij.plugins.drools.lang.psi;
 import java.util.List;
 import org.jetbrains.annotations.*;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsRuleStatementStub;
 
-public interface DroolsRuleStatement extends DroolsPsiCompositeElement {
+public interface DroolsRuleStatement extends DroolsRule, StubBasedPsiElement<DroolsRuleStatementStub> {
 
   @NotNull
   List<DroolsAnnotation> getAnnotationList();
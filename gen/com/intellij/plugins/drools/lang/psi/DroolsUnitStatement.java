@@ -6,8 +6,10 @@ package com.intellij.plugins.drools.lang.psi;
 import java.util.List;
 import org.jetbrains.annotations.*;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.StubBasedPsiElement;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsUnitStatementStub;
 
-public interface DroolsUnitStatement extends DroolsPsiCompositeElement {
+public interface DroolsUnitStatement extends DroolsPsiCompositeElement, StubBasedPsiElement<DroolsUnitStatementStub> {
 
   @NotNull
   DroolsUnitName getUnitName();
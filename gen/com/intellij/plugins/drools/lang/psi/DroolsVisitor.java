@@ -458,7 +458,7 @@ public class DroolsVisitor extends PsiElementVisitor {
   }
 
   public void visitRuleStatement(@NotNull DroolsRuleStatement o) {
-    visitPsiCompositeElement(o);
+    visitRule(o);
   }
 
   public void visitSelector(@NotNull DroolsSelector o) {
@@ -594,6 +594,10 @@ public class DroolsVisitor extends PsiElementVisitor {
     visitPsiCompositeElement(o);
   }
 
+  public void visitRule(@NotNull DroolsRule o) {
+    visitPsiCompositeElement(o);
+  }
+
   public void visitReference(@NotNull DroolsReference o) {
     visitPsiCompositeElement(o);
   }
@@ -9,10 +9,16 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsDeclareStatementStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
 import com.intellij.plugins.drools.lang.psi.*;
 
-public class DroolsDeclareStatementImpl extends DroolsPsiCompositeElementImpl implements DroolsDeclareStatement {
+public class DroolsDeclareStatementImpl extends DroolsStubbedElementImpl<DroolsDeclareStatementStub> implements DroolsDeclareStatement {
+
+  public DroolsDeclareStatementImpl(@NotNull DroolsDeclareStatementStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
 
   public DroolsDeclareStatementImpl(@NotNull ASTNode node) {
     super(node);
@@ -37,13 +43,13 @@ public class DroolsDeclareStatementImpl extends DroolsPsiCompositeElementImpl im
   @Override
   @Nullable
   public DroolsEnumDeclaration getEnumDeclaration() {
-    return findChildByClass(DroolsEnumDeclaration.class);
+    return PsiTreeUtil.getStubChildOfType(this, DroolsEnumDeclaration.class);
   }
 
   @Override
   @Nullable
   public DroolsTypeDeclaration getTypeDeclaration() {
-    return findChildByClass(DroolsTypeDeclaration.class);
+    return PsiTreeUtil.getStubChildOfType(this, DroolsTypeDeclaration.class);
   }
 
   @Override
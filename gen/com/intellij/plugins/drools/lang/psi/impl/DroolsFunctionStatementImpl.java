@@ -9,11 +9,17 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsFunctionStatementStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
 import com.intellij.plugins.drools.lang.psi.*;
 
 public class DroolsFunctionStatementImpl extends DroolsFunctionImpl implements DroolsFunctionStatement {
 
+  public DroolsFunctionStatementImpl(@NotNull DroolsFunctionStatementStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
+
   public DroolsFunctionStatementImpl(@NotNull ASTNode node) {
     super(node);
   }
@@ -9,10 +9,16 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsPackageStatementStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
 import com.intellij.plugins.drools.lang.psi.*;
 
-public class DroolsPackageStatementImpl extends DroolsPsiCompositeElementImpl implements DroolsPackageStatement {
+public class DroolsPackageStatementImpl extends DroolsStubbedElementImpl<DroolsPackageStatementStub> implements DroolsPackageStatement {
+
+  public DroolsPackageStatementImpl(@NotNull DroolsPackageStatementStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
 
   public DroolsPackageStatementImpl(@NotNull ASTNode node) {
     super(node);
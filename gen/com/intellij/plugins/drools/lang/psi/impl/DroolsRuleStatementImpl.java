@@ -9,10 +9,16 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsRuleStatementStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
 import com.intellij.plugins.drools.lang.psi.*;
 
-public class DroolsRuleStatementImpl extends DroolsPsiCompositeElementImpl implements DroolsRuleStatement {
+public class DroolsRuleStatementImpl extends DroolsRuleImpl implements DroolsRuleStatement {
+
+  public DroolsRuleStatementImpl(@NotNull DroolsRuleStatementStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
 
   public DroolsRuleStatementImpl(@NotNull ASTNode node) {
     super(node);
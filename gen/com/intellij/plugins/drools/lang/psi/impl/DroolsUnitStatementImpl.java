@@ -9,10 +9,16 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsUnitStatementStub;
+import com.intellij.psi.stubs.IStubElementType;
 import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
 import com.intellij.plugins.drools.lang.psi.*;
 
-public class DroolsUnitStatementImpl extends DroolsPsiCompositeElementImpl implements DroolsUnitStatement {
+public class DroolsUnitStatementImpl extends DroolsStubbedElementImpl<DroolsUnitStatementStub> implements DroolsUnitStatement {
+
+  public DroolsUnitStatementImpl(@NotNull DroolsUnitStatementStub stub, @NotNull IStubElementType<?, ?> type) {
+    super(stub, type);
+  }
 
   public DroolsUnitStatementImpl(@NotNull ASTNode node) {
     super(node);
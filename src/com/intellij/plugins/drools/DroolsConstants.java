@@ -8,6 +8,7 @@ public interface DroolsConstants {
   @NonNls String KNOWLEDGE_HELPER_8_X = "org.drools.core.rule.consequence.KnowledgeHelper";
   @NonNls String KIE_CONTEXT_CLASS = "org.kie.api.runtime.rule.RuleContext";
   @NonNls String DATA_STORE_CLASS = "org.drools.ruleunits.api.DataStore";
+  @NonNls String DATA_STREAM_CLASS = "org.drools.ruleunits.api.DataStream";
 
   @NonNls String TRAITS_THING = "org.drools.core.factmodel.traits.Thing";
 }
@@ -0,0 +1,69 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.actions;
+
+import com.intellij.codeInsight.navigation.NavigationUtil;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.popup.JBPopupFactory;
+import com.intellij.plugins.drools.DroolsBundle;
+import com.intellij.plugins.drools.lang.psi.searchers.DroolsFactTypeUsagesSearcher;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiUtilCore;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+public class FindRulesMatchingClassAction extends AnAction {
+  public FindRulesMatchingClassAction() {
+    super(DroolsBundle.messagePointer("action.find.rules.matching.class"),
+          DroolsBundle.messagePointer("action.find.rules.matching.class.description"),
+          null);
+  }
+
+  @Override
+  public @NotNull ActionUpdateThread getActionUpdateThread() {
+    return ActionUpdateThread.BGT;
+  }
+
+  @Override
+  public void update(@NotNull AnActionEvent e) {
+    e.getPresentation().setEnabledAndVisible(e.getProject() != null && getTargetClass(e) != null);
+  }
+
+  @Override
+  public void actionPerformed(@NotNull AnActionEvent e) {
+    Project project = e.getProject();
+    PsiClass psiClass = getTargetClass(e);
+    if (project == null || psiClass == null) return;
+
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+    Collection<PsiElement> rules = ProgressManager.getInstance().runProcessWithProgressSynchronously(
+      () -> ReadAction.compute(() -> DroolsFactTypeUsagesSearcher.findMatchingRules(psiClass, scope)),
+      DroolsBundle.message("action.find.rules.matching.class.progress"), true, project);
+
+    String className = psiClass.getName();
+    if (rules.isEmpty()) {
+      JBPopupFactory.getInstance()
+        .createMessage(DroolsBundle.message("action.find.rules.matching.class.not.found", className))
+        .showInBestPositionFor(e.getDataContext());
+      return;
+    }
+    NavigationUtil.getPsiElementPopup(PsiUtilCore.toPsiElementArray(rules),
+                                      DroolsBundle.message("gutter.rules.matching.class.title", className))
+      .showInBestPositionFor(e.getDataContext());
+  }
+
+  private static @Nullable PsiClass getTargetClass(@NotNull AnActionEvent e) {
+    PsiElement element = e.getData(CommonDataKeys.PSI_ELEMENT);
+    return element instanceof PsiClass psiClass && !(psiClass instanceof PsiTypeParameter) ? psiClass : null;
+  }
+}
@@ -4,9 +4,11 @@ import com.intellij.codeInsight.completion.*;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.icons.AllIcons;
 import com.intellij.patterns.PlatformPatterns;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.lang.psi.*;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
+import com.intellij.plugins.drools.lang.psi.util.DroolsRuleUnitResolver;
 import com.intellij.plugins.drools.references.OOPathContextAnalyzer;
-import com.intellij.plugins.drools.references.RuleUnitResolver;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTypesUtil;
 import com.intellij.util.ProcessingContext;
@@ -35,15 +37,15 @@ public class DroolsOOPathCompletionContributor extends CompletionContributor {
                     protected void addCompletions(@NotNull CompletionParameters parameters,
                             @NotNull ProcessingContext context,
                             @NotNull CompletionResultSet result) {
-                        PsiFile file = parameters.getOriginalFile();
+                        if (!(parameters.getOriginalFile() instanceof DroolsFile file)) return;
 
                         // Find Rule Unit class
-                        PsiClass ruleUnit = RuleUnitResolver.findRuleUnitClass(file);
+                        PsiClass ruleUnit = DroolsResolveUtil.getUnitClass(file);
                         if (ruleUnit == null) return;
 
                         // Get data sources
                         Map<String, PsiType> dataSources =
-                                RuleUnitResolver.getDataSources(ruleUnit);
+                                DroolsRuleUnitResolver.getInstance(file.getProject()).getDataSources(ruleUnit);
 
                         // Add completions
                         for (Map.Entry<String, PsiType> entry : dataSources.entrySet()) {
@@ -117,23 +119,24 @@ public class DroolsOOPathCompletionContributor extends CompletionContributor {
          */
         private boolean isInOOPathConstraint(@NotNull PsiElement element) {
             try {
-                String text = element.getContainingFile().getText();
-                int offset = element.getTextOffset();
+                // Scan the file contents in place instead of copying the whole document into a String
+                CharSequence text = element.getContainingFile().getViewProvider().getContents();
+                int offset = Math.min(element.getTextOffset(), text.length() - 1);
 
                 // Look backwards for '/'
-                int lastSlash = text.lastIndexOf('/', offset);
+                int lastSlash = StringUtil.lastIndexOf(text, '/', 0, offset + 1);
                 if (lastSlash == -1) {
                     return false;
                 }
 
                 // Look for '[' after '/' and before cursor
-                int lastBracket = text.lastIndexOf('[', offset);
+                int lastBracket = StringUtil.lastIndexOf(text, '[', 0, offset + 1);
                 if (lastBracket <= lastSlash) {
                     return false;
                 }
 
                 // Check if there's a closing ']' before cursor
-                int nextCloseBracket = text.indexOf(']', offset);
+                int nextCloseBracket = StringUtil.indexOf(text, ']', offset);
 
                 // We're in constraint if:
                 // - There's a '[' after '/' and before cursor
@@ -0,0 +1,42 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.highlight;
+
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.plugins.drools.DroolsBundle;
+import com.intellij.plugins.drools.JbossDroolsIcons;
+import com.intellij.plugins.drools.lang.psi.searchers.DroolsFactTypeUsagesSearcher;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * "Rules matching this class" marker on Java classes used as LHS pattern types.
+ */
+public final class DroolsFactTypeLineMarkerProvider extends RelatedItemLineMarkerProvider {
+  @Override
+  protected void collectNavigationMarkers(@NotNull PsiElement element, @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+    if (!(element instanceof PsiIdentifier) ||
+        !(element.getParent() instanceof PsiClass psiClass) ||
+        psiClass instanceof PsiTypeParameter ||
+        psiClass.getNameIdentifier() != element) {
+      return;
+    }
+
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(psiClass.getProject());
+    if (!DroolsFactTypeUsagesSearcher.hasPatternCandidates(psiClass, scope)) return;
+
+    NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder.create(JbossDroolsIcons.Drools_16)
+      .setTargets(NotNullLazyValue.lazy(() -> DroolsFactTypeUsagesSearcher.findMatchingRules(psiClass, scope)))
+      .setTooltipText(DroolsBundle.message("gutter.rules.matching.class"))
+      .setPopupTitle(DroolsBundle.message("gutter.rules.matching.class.title", psiClass.getName()));
+    result.add(builder.createLineMarkerInfo(element));
+  }
+}
@@ -2,18 +2,52 @@
 package com.intellij.plugins.drools.lang.lexer;
 
 import com.intellij.lang.ASTNode;
+import com.intellij.lang.Language;
 import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.java.lexer.JavaLexer;
 import com.intellij.lang.java.parser.JavaParser;
 import com.intellij.lang.java.parser.JavaParserUtil;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
 import com.intellij.plugins.drools.DroolsLanguage;
-import com.intellij.psi.tree.ILazyParseableElementType;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableElementType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class DroolsBlockExpressionsLazyParseableElementType extends ILazyParseableElementType {
+public class DroolsBlockExpressionsLazyParseableElementType extends IReparseableElementType {
   public DroolsBlockExpressionsLazyParseableElementType() {
     super("BLOCK_EXPRESSION", DroolsLanguage.INSTANCE);
   }
 
+  /**
+   * The edited text is reparsed in place only if it is still a single braced block: the first brace is closed by the last
+   * token. {@code #} comments, text blocks and unterminated comments or literals are rejected, as {@link DroolsLexer} counts
+   * braces inside them differently.
+   */
+  @Override
+  public boolean isParsable(@Nullable ASTNode parent, @NotNull CharSequence buffer, @NotNull Language fileLanguage, @NotNull Project project) {
+    final Lexer lexer = new JavaLexer(LanguageLevel.HIGHEST);
+    lexer.start(buffer);
+    if (lexer.getTokenType() != JavaTokenType.LBRACE) return false;
+
+    int braces = 0;
+    while (lexer.getTokenType() != null) {
+      final IElementType tokenType = lexer.getTokenType();
+      if (tokenType == TokenType.BAD_CHARACTER || tokenType == JavaTokenType.TEXT_BLOCK_LITERAL) return false;
+      if (DroolsJavaStatementLazyParseableElementType.isUnterminated(tokenType, lexer.getTokenSequence())) return false;
+
+      if (tokenType == JavaTokenType.LBRACE) braces++;
+      else if (tokenType == JavaTokenType.RBRACE) braces--;
+      lexer.advance();
+      if (braces == 0) return lexer.getTokenType() == null;
+    }
+    return false;
+  }
+
   @Override
   public ASTNode parseContents(@NotNull ASTNode chameleon) {
     PsiBuilder builder = JavaParserUtil.createBuilder(chameleon);
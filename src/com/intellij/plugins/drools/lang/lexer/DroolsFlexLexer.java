@@ -2,9 +2,20 @@
 package com.intellij.plugins.drools.lang.lexer;
 
 import com.intellij.lexer.FlexAdapter;
+import org.jetbrains.annotations.NotNull;
 
 public class DroolsFlexLexer extends FlexAdapter {
   public DroolsFlexLexer() {
     super(new _DroolsLexer(null));
   }
+
+  /**
+   * The editor highlighter restarts the lexer at any token with the initial state, e.g. at a top-level
+   * {@code rule}, {@code declare}, {@code function} or {@code query}. The state stack of an abandoned run must not leak into it.
+   */
+  @Override
+  public void start(@NotNull CharSequence buffer, int startOffset, int endOffset, int initialState) {
+    ((_DroolsLexer)getFlex()).resetInternal();
+    super.start(buffer, startOffset, endOffset, initialState);
+  }
 }
@@ -2,18 +2,72 @@
 package com.intellij.plugins.drools.lang.lexer;
 
 import com.intellij.lang.ASTNode;
+import com.intellij.lang.Language;
 import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.java.lexer.JavaLexer;
 import com.intellij.lang.java.parser.JavaParser;
 import com.intellij.lang.java.parser.JavaParserUtil;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.DroolsLanguage;
-import com.intellij.psi.tree.ILazyParseableElementType;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.impl.source.tree.JavaDocElementType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableElementType;
+import com.intellij.psi.tree.TokenSet;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+public class DroolsJavaStatementLazyParseableElementType extends IReparseableElementType {
+  private static final TokenSet NOT_STATEMENT_START = TokenSet.create(TokenType.WHITE_SPACE, JavaTokenType.SEMICOLON, JavaTokenType.LBRACKET);
+  private static final Set<String> RHS_KEYWORDS = Set.of("then", "end", "modify", "update", "retract", "insert", "insertLogical");
 
-public class DroolsJavaStatementLazyParseableElementType extends ILazyParseableElementType {
   public DroolsJavaStatementLazyParseableElementType() {
     super("JAVA_STATEMENT", DroolsLanguage.INSTANCE);
   }
 
+  /**
+   * The edited text is reparsed in place only if {@link DroolsLexer} would still lex it as one JAVA_STATEMENT: it may not
+   * start with skipped tokens, contain a consequence keyword or a {@code #} comment, or run into the following keyword.
+   * Unterminated comments and literals are rejected too, as they swallow the following text differently in both lexers.
+   */
+  @Override
+  public boolean isParsable(@Nullable ASTNode parent, @NotNull CharSequence buffer, @NotNull Language fileLanguage, @NotNull Project project) {
+    if (buffer.isEmpty() || Character.isJavaIdentifierPart(buffer.charAt(buffer.length() - 1))) return false;
+
+    final Lexer lexer = new JavaLexer(LanguageLevel.HIGHEST);
+    lexer.start(buffer);
+    if (NOT_STATEMENT_START.contains(lexer.getTokenType())) return false;
+
+    for (; lexer.getTokenType() != null; lexer.advance()) {
+      final IElementType tokenType = lexer.getTokenType();
+      if (tokenType == TokenType.BAD_CHARACTER || tokenType == JavaTokenType.TEXT_BLOCK_LITERAL) return false;
+      if (isUnterminated(tokenType, lexer.getTokenSequence())) return false;
+      if (tokenType == JavaTokenType.IDENTIFIER && RHS_KEYWORDS.contains(lexer.getTokenSequence().toString())) return false;
+    }
+    return true;
+  }
+
+  static boolean isUnterminated(@NotNull IElementType tokenType, @NotNull CharSequence text) {
+    if (tokenType == JavaTokenType.C_STYLE_COMMENT || tokenType == JavaDocElementType.DOC_COMMENT) {
+      return text.length() < 4 || !StringUtil.endsWith(text, "*/");
+    }
+    if (tokenType == JavaTokenType.STRING_LITERAL || tokenType == JavaTokenType.CHARACTER_LITERAL) {
+      final int end = text.length() - 1;
+      if (end == 0 || text.charAt(end) != text.charAt(0)) return true;
+
+      int backslashes = 0;
+      while (end - backslashes - 1 > 0 && text.charAt(end - backslashes - 1) == '\\') backslashes++;
+      return backslashes % 2 != 0;
+    }
+    return false;
+  }
+
   @Override
   public ASTNode parseContents(@NotNull ASTNode chameleon) {
     PsiBuilder builder = JavaParserUtil.createBuilder(chameleon);
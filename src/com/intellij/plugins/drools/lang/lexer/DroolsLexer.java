@@ -13,6 +13,10 @@ import static com.intellij.psi.TokenType.BAD_CHARACTER;
 import static com.intellij.psi.TokenType.WHITE_SPACE;
 
 public class DroolsLexer extends LookAheadLexer {
+  private static final TokenSet RHS_SKIPPED_TOKENS = TokenSet.create(WHITE_SPACE, SEMICOLON);
+  private static final TokenSet RHS_MODIFY_TOKENS = TokenSet.create(MODIFY, RETRACT, UPDATE, INSERT_LOGICAL, INSERT);
+  private static final TokenSet RHS_INTERRUPT_TOKENS =
+    TokenSet.create(THEN, END, MODIFY, RETRACT, UPDATE, INSERT_LOGICAL, INSERT, DroolsTokenTypeSets.SINGLE_LINE_COMMENT_DEPR);
 
   public DroolsLexer() {
     super(new DroolsFlexLexer());
@@ -46,34 +50,49 @@ public class DroolsLexer extends LookAheadLexer {
     }
   }
 
+  /**
+   * Consequence statements are scanned in a loop: generated consequences may contain thousands of them.
+   * A nested {@code then} is processed up to its own end before scanning of the enclosing consequence resumes.
+   */
   private void processRhsStatements(Lexer baseLexer) {
-    addAllTokens(baseLexer, TokenSet.create(WHITE_SPACE, SEMICOLON));
+    int consequences = 1;
+    while (consequences > 0) {
+      if (processRhsStatement(baseLexer)) {
+        consequences--;
+      }
+      else if (baseLexer.getTokenType() == THEN) {
+        advanceLexer(baseLexer);
+        consequences++;
+      }
+    }
+  }
+
+  /**
+   * @return true if the current consequence is finished
+   */
+  private boolean processRhsStatement(Lexer baseLexer) {
+    addAllTokens(baseLexer, RHS_SKIPPED_TOKENS);
     if (baseLexer.getTokenType() == LBRACKET) {
       advanceLexer(baseLexer);
       if (skipTokensWithBraces(baseLexer, LBRACKET, RBRACKET, true)) {
         advanceLexer(baseLexer);
-        return;
+        return true;
       }
     }
 
     IElementType currentTokenType = baseLexer.getTokenType();
-    if (currentTokenType == null) return;
+    if (currentTokenType == null) return true;
     if (currentTokenType == END) {
       advanceLexer(baseLexer);
-      return;
+      return true;
     }
 
-    TokenSet modifyTokenSet = TokenSet.create(MODIFY, RETRACT, UPDATE, INSERT_LOGICAL, INSERT);
-    if (modifyTokenSet.contains(currentTokenType)) {
+    if (RHS_MODIFY_TOKENS.contains(currentTokenType)) {
       processModifyStatement(baseLexer);
-    } else if (baseLexer.getTokenType() == DroolsTokenTypeSets.SINGLE_LINE_COMMENT_DEPR) {
-      advanceLexer(baseLexer);
-    } else if (currentTokenType == THEN) {
+    } else if (currentTokenType == DroolsTokenTypeSets.SINGLE_LINE_COMMENT_DEPR) {
       advanceLexer(baseLexer);
-      processRhsStatements(baseLexer);
-    } else {
-      TokenSet interruptSet = TokenSet.create(THEN, END, MODIFY, RETRACT, UPDATE, INSERT_LOGICAL, INSERT, DroolsTokenTypeSets.SINGLE_LINE_COMMENT_DEPR);
-      if (skipTokens(baseLexer, interruptSet)) {
+    } else if (currentTokenType != THEN) { // a nested consequence is opened by processRhsStatements()
+      if (skipTokens(baseLexer, RHS_INTERRUPT_TOKENS)) {
         IElementType nextTokenType = baseLexer.getTokenType();
         if (nextTokenType == null) {
           advanceAs(baseLexer, BAD_CHARACTER);
@@ -83,7 +102,7 @@ public class DroolsLexer extends LookAheadLexer {
         }
       }
     }
-    processRhsStatements(baseLexer);
+    return false;
   }
 
   private void processModifyStatement(Lexer baseLexer) {
@@ -171,7 +190,7 @@ public class DroolsLexer extends LookAheadLexer {
   }
 
   private void addWhiteSpaces(Lexer baseLexer) {
-    addAllTokens(baseLexer, TokenSet.create(WHITE_SPACE));
+    addAllTokens(baseLexer, TokenSet.WHITE_SPACE);
   }
 
   private void addAllTokens(Lexer baseLexer, TokenSet set) {
@@ -202,23 +221,20 @@ public class DroolsLexer extends LookAheadLexer {
 
   protected boolean skipTokensWithBraces(Lexer baseLexer, IElementType lBrace, IElementType rBrace, boolean addSkippedTokens) {
     boolean skipped = false;
-    TokenSet until = TokenSet.create(lBrace, rBrace);
     int lBraces = 0;
     while (true) {
       IElementType tokenType = baseLexer.getTokenType();
       if (tokenType == null) {
         return skipped;
       }
-      if (until.contains(tokenType)) {
-        if (baseLexer.getTokenType() == lBrace) {
-          lBraces++;
-        }
-        else if (lBraces == 0) {
+      if (tokenType == lBrace) {
+        lBraces++;
+      }
+      else if (tokenType == rBrace) {
+        if (lBraces == 0) {
           return skipped;
         }
-        else {
-          lBraces--;
-        }
+        lBraces--;
       }
       skipped = true;
 
@@ -21,6 +21,7 @@ public interface DroolsTokenTypeSets {
   TokenSet KEYWORDS =
     TokenSet.create(RULE, IMPORT, PACKAGE, ENTRY_POINT, EXTENDS, WHEN, THEN, TEMPLATE, QUERY, DECLARE, FUNCTION, GLOBAL, END, WINDOW, UNIT,
                     ENUM, STATIC);
+  TokenSet TOP_LEVEL_STATEMENT_KEYWORDS = TokenSet.create(PACKAGE, UNIT, IMPORT, GLOBAL, DECLARE, FUNCTION, QUERY, RULE);
   TokenSet PRIMITIVE_TYPES = TokenSet.create(VOID, BOOLEAN, BYTE, CHAR,SHORT, INT,LONG, FLOAT, DOUBLE);
 
   TokenSet KEYWORD_ATTRS =
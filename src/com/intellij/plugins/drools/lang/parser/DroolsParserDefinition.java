@@ -6,11 +6,11 @@ import com.intellij.lang.ParserDefinition;
 import com.intellij.lang.PsiParser;
 import com.intellij.lexer.Lexer;
 import com.intellij.openapi.project.Project;
-import com.intellij.plugins.drools.DroolsLanguage;
 import com.intellij.plugins.drools.lang.lexer.*;
 import com.intellij.plugins.drools.lang.psi.DroolsCompositeBlockExpressionElement;
 import com.intellij.plugins.drools.lang.psi.DroolsCompositeJavaStatementElement;
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsStubFileElementType;
 import com.intellij.psi.FileViewProvider;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
@@ -19,7 +19,7 @@ import com.intellij.psi.tree.TokenSet;
 import org.jetbrains.annotations.NotNull;
 
 public final class DroolsParserDefinition implements ParserDefinition {
-  private static final IFileElementType DROOLS_FILE = new IFileElementType("DROOLS_FILE", DroolsLanguage.INSTANCE);
+  private static final IFileElementType DROOLS_FILE = new DroolsStubFileElementType();
 
   @Override
   public @NotNull Lexer createLexer(Project project) {
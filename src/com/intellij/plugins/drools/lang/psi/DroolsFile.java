@@ -8,11 +8,17 @@ import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.DroolsFileType;
 import com.intellij.plugins.drools.DroolsLanguage;
 import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypeSets;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsPackageStatementStub;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsUnitStatementStub;
 import com.intellij.plugins.drools.lang.psi.util.DroolsElementsFactory;
 import com.intellij.psi.FileViewProvider;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiImportHolder;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.util.ArrayFactory;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -40,31 +46,55 @@ public class DroolsFile extends PsiFileBase implements PsiImportHolder {
   }
 
   public DroolsDeclareStatement @NotNull [] getDeclarations() {
-    return findChildrenByClass(DroolsDeclareStatement.class);
+    return getStubOrPsiChildren(DroolsTokenTypes.DECLARE_STATEMENT, DroolsDeclareStatement.class, DroolsDeclareStatement[]::new);
   }
 
   public DroolsRuleStatement @NotNull [] getRules() {
-    return findChildrenByClass(DroolsRuleStatement.class);
+    return getStubOrPsiChildren(DroolsTokenTypes.RULE_STATEMENT, DroolsRuleStatement.class, DroolsRuleStatement[]::new);
   }
 
   public DroolsFunctionStatement @NotNull [] getFunctions() {
-    return findChildrenByClass(DroolsFunctionStatement.class);
+    return getStubOrPsiChildren(DroolsTokenTypes.FUNCTION_STATEMENT, DroolsFunctionStatement.class, DroolsFunctionStatement[]::new);
   }
 
   public DroolsQueryStatement @NotNull [] getQueries() {
-    return findChildrenByClass(DroolsQueryStatement.class);
+    return getStubOrPsiChildren(DroolsTokenTypes.QUERY_STATEMENT, DroolsQueryStatement.class, DroolsQueryStatement[]::new);
   }
 
   public DroolsImportStatement[] getImports() {
-    return findChildrenByClass(DroolsImportStatement.class);
+    return getStubOrPsiChildren(DroolsTokenTypes.IMPORT_STATEMENT, DroolsImportStatement.class, DroolsImportStatement[]::new);
   }
 
   public DroolsGlobalStatement[] getGlobalVariables() {
-    return findChildrenByClass(DroolsGlobalStatement.class);
+    return getStubOrPsiChildren(DroolsTokenTypes.GLOBAL_STATEMENT, DroolsGlobalStatement.class, DroolsGlobalStatement[]::new);
   }
 
   public @Nullable DroolsPackageStatement getPackage() {
-    return findChildByClass(DroolsPackageStatement.class);
+    return getStubOrPsiChild(DroolsTokenTypes.PACKAGE_STATEMENT, DroolsPackageStatement.class, DroolsPackageStatement[]::new);
+  }
+
+  /**
+   * @return package name declared in this file or empty string, served from stubs when available
+   */
+  public @NotNull String getPackageName() {
+    if (getGreenStub() != null) {
+      DroolsPackageStatementStub packageStub = findChildStub(DroolsPackageStatementStub.class);
+      return packageStub != null ? packageStub.getNamespace() : "";
+    }
+    DroolsPackageStatement packageStatement = getPackage();
+    return packageStatement != null ? packageStatement.getNamespace().getText() : "";
+  }
+
+  /**
+   * @return rule unit name declared in this file, served from stubs when available
+   */
+  public @Nullable String getUnitName() {
+    if (getGreenStub() != null) {
+      DroolsUnitStatementStub unitStub = findChildStub(DroolsUnitStatementStub.class);
+      return unitStub != null ? unitStub.getUnitName() : null;
+    }
+    DroolsUnitStatement unitStatement = getUnitStatement();
+    return unitStatement != null ? unitStatement.getUnitName().getText() : null;
   }
 
   public DroolsAttribute @NotNull [] getAttributes() {
@@ -72,7 +102,7 @@ public class DroolsFile extends PsiFileBase implements PsiImportHolder {
   }
 
   public @Nullable DroolsUnitStatement getUnitStatement() {
-    return findChildByClass(DroolsUnitStatement.class);
+    return getStubOrPsiChild(DroolsTokenTypes.UNIT_STATEMENT, DroolsUnitStatement.class, DroolsUnitStatement[]::new);
   }
 
   public @Nullable DroolsAttribute findAttributeByName(@NotNull String name) {
@@ -137,4 +167,35 @@ public class DroolsFile extends PsiFileBase implements PsiImportHolder {
     }
     return null;
   }
+
+  private <T extends PsiElement> T @NotNull [] getStubOrPsiChildren(@NotNull IElementType type,
+                                                                    @NotNull Class<T> aClass,
+                                                                    @NotNull ArrayFactory<T> factory) {
+    StubElement<?> stub = getGreenStub();
+    if (stub != null) {
+      return stub.getChildrenByType(type, factory);
+    }
+    return findChildrenByClass(aClass);
+  }
+
+  private <S extends StubElement<?>> @Nullable S findChildStub(@NotNull Class<S> stubClass) {
+    StubElement<?> stub = getGreenStub();
+    if (stub != null) {
+      for (StubElement<?> childStub : stub.getChildrenStubs()) {
+        if (stubClass.isInstance(childStub)) return stubClass.cast(childStub);
+      }
+    }
+    return null;
+  }
+
+  private <T extends PsiElement> @Nullable T getStubOrPsiChild(@NotNull IElementType type,
+                                                               @NotNull Class<T> aClass,
+                                                               @NotNull ArrayFactory<T> factory) {
+    StubElement<?> stub = getGreenStub();
+    if (stub != null) {
+      T[] children = stub.getChildrenByType(type, factory);
+      return children.length > 0 ? children[0] : null;
+    }
+    return findChildByClass(aClass);
+  }
 }
@@ -1,11 +1,20 @@
 // Copyright 2000-2022 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.intellij.plugins.drools.lang.psi;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
 import java.util.List;
 
-public interface DroolsRule extends DroolsNamedElement {
+public interface DroolsRule extends DroolsPsiCompositeElement {
+
+  @NotNull
+  String getRuleId();
+
+  @Nullable
+  String getParentRuleId();
 
   List<DroolsAttribute> getAttributes();
 
   //DroolsTimer getTimer();
-}
\ No newline at end of file
+}
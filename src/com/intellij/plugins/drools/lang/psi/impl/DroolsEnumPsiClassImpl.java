@@ -2,13 +2,13 @@
 package com.intellij.plugins.drools.lang.psi.impl;
 
 import com.intellij.lang.ASTNode;
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.lang.psi.*;
-import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsTypeDeclarationStub;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.stubs.IStubElementType;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -17,23 +17,12 @@ import java.util.List;
 
 public abstract class DroolsEnumPsiClassImpl extends DroolsPsiClassImpl implements DroolsPsiClass, DroolsEnumDeclaration {
 
-  public DroolsEnumPsiClassImpl(@NotNull ASTNode node) {
-    super(node);
-  }
-
-  @Override
-  public String getName() {
-    return getTypeName().getText();
+  public DroolsEnumPsiClassImpl(@NotNull DroolsTypeDeclarationStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
   }
 
-  @Override
-  public @Nullable String getQualifiedName() {
-    String typeName = getTypeName().getText();
-    if (StringUtil.getPackageName(typeName).isEmpty()) {
-      String aPackage = DroolsResolveUtil.getCurrentPackage(PsiTreeUtil.getParentOfType(this, DroolsFile.class));
-      typeName =  aPackage +"." +typeName;
-    }
-    return typeName;
+  public DroolsEnumPsiClassImpl(@NotNull ASTNode node) {
+    super(node);
   }
 
   @Override
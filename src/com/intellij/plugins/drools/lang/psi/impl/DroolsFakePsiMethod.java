@@ -13,18 +13,27 @@ import com.intellij.psi.impl.PsiImplUtil;
 import com.intellij.psi.impl.PsiSuperMethodImplUtil;
 import com.intellij.psi.impl.light.*;
 import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.MethodSignature;
 import com.intellij.psi.util.MethodSignatureBackedByPsiMethod;
+import com.intellij.psi.util.PsiModificationTracker;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 
-public abstract class DroolsFakePsiMethod extends DroolsPsiCompositeElementImpl implements PsiMethod {
+public abstract class DroolsFakePsiMethod<T extends StubElement<?>> extends DroolsStubbedElementImpl<T> implements PsiMethod {
   private PsiModifierList myModifierList;
   private LightTypeParameterListBuilder myTypeParameterList;
   private PsiReferenceList myThrowsList;
 
+  public DroolsFakePsiMethod(@NotNull T stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
   public DroolsFakePsiMethod(@NotNull ASTNode node) {
     super(node);
   }
@@ -59,8 +68,16 @@ public abstract class DroolsFakePsiMethod extends DroolsPsiCompositeElementImpl
     return null;
   }
 
+  /**
+   * Parameter types are resolved once per PSI modification and shared by all Java resolve requests.
+   */
   @Override
   public @NotNull PsiParameterList getParameterList() {
+    return CachedValuesManager.getCachedValue(this, () -> CachedValueProvider.Result
+      .create(createParameterList(), PsiModificationTracker.getInstance(getProject())));
+  }
+
+  private @NotNull PsiParameterList createParameterList() {
     LightParameterListBuilder builder = new LightParameterListBuilder(getManager(), JavaLanguage.INSTANCE);
     final DroolsParameters parameters = getDroolsParameters();
     if (parameters != null) {
@@ -98,6 +115,10 @@ public abstract class DroolsFakePsiMethod extends DroolsPsiCompositeElementImpl
 
   @Override
   public @NotNull MethodSignature getSignature(@NotNull PsiSubstitutor substitutor) {
+    if (substitutor == PsiSubstitutor.EMPTY) {
+      return CachedValuesManager.getCachedValue(this, () -> CachedValueProvider.Result
+        .create(MethodSignatureBackedByPsiMethod.create(this, PsiSubstitutor.EMPTY), PsiModificationTracker.getInstance(getProject())));
+    }
     return MethodSignatureBackedByPsiMethod.create(this, substitutor);
   }
 
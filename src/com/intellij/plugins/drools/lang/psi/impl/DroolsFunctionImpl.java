@@ -4,15 +4,17 @@ package com.intellij.plugins.drools.lang.psi.impl;
 import com.intellij.lang.ASTNode;
 import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.plugins.drools.lang.psi.*;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsFunctionStatementStub;
 import com.intellij.plugins.drools.lang.psi.util.DroolsElementsFactory;
 import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.light.JavaIdentifier;
+import com.intellij.psi.stubs.IStubElementType;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
-public abstract class DroolsFunctionImpl extends DroolsFakePsiMethod implements DroolsFunction, DroolsFunctionStatement,
+public abstract class DroolsFunctionImpl extends DroolsFakePsiMethod<DroolsFunctionStatementStub> implements DroolsFunction, DroolsFunctionStatement,
                                                                                           PsiTarget {
   private final NotNullLazyValue<PsiType> myReturnType = NotNullLazyValue.lazy(
     () -> {
@@ -30,17 +32,23 @@ public abstract class DroolsFunctionImpl extends DroolsFakePsiMethod implements
     }
   );
 
+  public DroolsFunctionImpl(@NotNull DroolsFunctionStatementStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
   public DroolsFunctionImpl(@NotNull ASTNode node) {
     super(node);
   }
 
   @Override
   public String getFunctionName() {
-    return getNameId().getText();
+    return getName();
   }
 
   @Override
   public @NotNull String getName() {
+    DroolsFunctionStatementStub stub = getGreenStub();
+    if (stub != null) return stub.getName();
     return getNameId().getText();
   }
 
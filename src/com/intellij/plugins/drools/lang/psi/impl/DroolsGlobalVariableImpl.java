@@ -1,24 +1,37 @@
 // Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.intellij.plugins.drools.lang.psi.impl;
 
+import com.intellij.ide.presentation.Presentation;
 import com.intellij.lang.ASTNode;
 import com.intellij.plugins.drools.lang.psi.DroolsGlobalStatement;
 import com.intellij.plugins.drools.lang.psi.DroolsNameId;
 import com.intellij.plugins.drools.lang.psi.DroolsVarType;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsGlobalStatementStub;
+import com.intellij.plugins.drools.lang.psi.util.DroolsElementsFactory;
 import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
-import com.intellij.psi.PsiType;
-import com.intellij.psi.PsiTypes;
+import com.intellij.psi.*;
+import com.intellij.psi.impl.light.JavaIdentifier;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.util.IncorrectOperationException;
+import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
-public abstract class DroolsGlobalVariableImpl extends DroolsAbstractVariableImpl implements  DroolsGlobalStatement {
+@Presentation(typeName = DroolsAbstractVariableImpl.VARIABLE)
+public abstract class DroolsGlobalVariableImpl extends DroolsStubbedElementImpl<DroolsGlobalStatementStub> implements DroolsGlobalStatement {
+
+  public DroolsGlobalVariableImpl(@NotNull DroolsGlobalStatementStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
 
   public DroolsGlobalVariableImpl(@NotNull ASTNode node) {
     super(node);
   }
 
   @Override
-  public DroolsNameId getNamedIdElement() {
-    return getNameId();
+  public String getName() {
+    DroolsGlobalStatementStub stub = getGreenStub();
+    if (stub != null) return stub.getName();
+    return getNameId().getText();
   }
 
   @Override
@@ -28,4 +41,55 @@ public abstract class DroolsGlobalVariableImpl extends DroolsAbstractVariableImp
       if (psiType != null) return psiType;
     return PsiTypes.nullType();
   }
+
+  @Override
+  public PsiTypeElement getTypeElement() {
+    return null;
+  }
+
+  @Override
+  public PsiExpression getInitializer() {
+    return null;
+  }
+
+  @Override
+  public boolean hasInitializer() {
+    return false;
+  }
+
+  @Override
+  public void normalizeDeclaration() throws IncorrectOperationException {
+
+  }
+
+  @Override
+  public Object computeConstantValue() {
+    return null;
+  }
+
+  @Override
+  public PsiIdentifier getNameIdentifier() {
+    if (!isValid()) return null;
+    return new JavaIdentifier(getManager(), getNameId());
+  }
+
+  @Override
+  public PsiElement setName(@NonNls @NotNull String name) throws IncorrectOperationException {
+    final DroolsNameId oldIdentifier = getNameId();
+    final PsiElement patternBindIdentifier = DroolsElementsFactory.createPatternBindIdentifier(name, getProject());
+    if (patternBindIdentifier != null) {
+      oldIdentifier.replace(patternBindIdentifier);
+    }
+    return this;
+  }
+
+  @Override
+  public PsiModifierList getModifierList() {
+    return null;
+  }
+
+  @Override
+  public boolean hasModifierProperty(@PsiModifier.ModifierConstant @NonNls @NotNull String name) {
+    return false;
+  }
 }
@@ -4,9 +4,15 @@ package com.intellij.plugins.drools.lang.psi.impl;
 import com.intellij.lang.ASTNode;
 import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
 import com.intellij.plugins.drools.lang.psi.DroolsImportStatement;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsImportStatementStub;
+import com.intellij.psi.stubs.IStubElementType;
 import org.jetbrains.annotations.NotNull;
 
-public abstract class DroolsImportImpl extends DroolsPsiCompositeElementImpl implements DroolsImportStatement {
+public abstract class DroolsImportImpl extends DroolsStubbedElementImpl<DroolsImportStatementStub> implements DroolsImportStatement {
+
+  public DroolsImportImpl(@NotNull DroolsImportStatementStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
 
   public DroolsImportImpl(@NotNull ASTNode node) {
     super(node);
@@ -15,7 +21,7 @@ public abstract class DroolsImportImpl extends DroolsPsiCompositeElementImpl imp
   @Override
   public String getImportedClassName() {
     if (!isFunction()) {
-      String text = getImportQualifier().getText();
+      String text = getQualifierText();
       if (text != null && !text.endsWith(".*")) return text;
     }
     return null;
@@ -24,7 +30,7 @@ public abstract class DroolsImportImpl extends DroolsPsiCompositeElementImpl imp
   @Override
   public String getImportedPackage() {
     if (!isFunction()) {
-      String text = getImportQualifier().getText();
+      String text = getQualifierText();
       if (text != null && text.endsWith(".*")) return text.substring(0, text.lastIndexOf(".*"));
     }
     return null;
@@ -33,18 +39,28 @@ public abstract class DroolsImportImpl extends DroolsPsiCompositeElementImpl imp
   @Override
   public String getImportedFunction() {
     if (isFunction()) {
-      return getImportQualifier().getText();
+      return getQualifierText();
     }
     return null;
   }
 
   @Override
   public boolean isFunction() {
+    DroolsImportStatementStub stub = getGreenStub();
+    if (stub != null) return stub.isFunction();
     return findChildByType(DroolsTokenTypes.FUNCTION) != null;
   }
 
   @Override
   public boolean isStatic() {
+    DroolsImportStatementStub stub = getGreenStub();
+    if (stub != null) return stub.isStatic();
     return findChildByType(DroolsTokenTypes.STATIC) != null;
   }
+
+  private String getQualifierText() {
+    DroolsImportStatementStub stub = getGreenStub();
+    if (stub != null) return stub.getQualifier();
+    return getImportQualifier().getText();
+  }
 }
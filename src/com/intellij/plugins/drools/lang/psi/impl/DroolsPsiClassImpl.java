@@ -3,9 +3,10 @@ package com.intellij.plugins.drools.lang.psi.impl;
 
 import com.intellij.lang.ASTNode;
 import com.intellij.openapi.util.Pair;
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.DroolsConstants;
 import com.intellij.plugins.drools.lang.psi.*;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclaredTypeIndex;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsTypeDeclarationStub;
 import com.intellij.plugins.drools.lang.psi.util.DroolsElementsFactory;
 import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.*;
@@ -14,8 +15,11 @@ import com.intellij.psi.impl.PsiManagerEx;
 import com.intellij.psi.impl.light.JavaIdentifier;
 import com.intellij.psi.impl.light.LightMethod;
 import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PropertyUtilBase;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTypesUtil;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NonNls;
@@ -24,7 +28,12 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-public abstract class DroolsPsiClassImpl extends DroolsPsiCompositeElementImpl implements DroolsPsiClass, DroolsTypeDeclaration {
+public abstract class DroolsPsiClassImpl extends DroolsStubbedElementImpl<DroolsTypeDeclarationStub>
+  implements DroolsPsiClass, DroolsTypeDeclaration {
+
+  public DroolsPsiClassImpl(@NotNull DroolsTypeDeclarationStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
 
   public DroolsPsiClassImpl(@NotNull ASTNode node) {
     super(node);
@@ -32,17 +41,16 @@ public abstract class DroolsPsiClassImpl extends DroolsPsiCompositeElementImpl i
 
   @Override
   public String getName() {
+    DroolsTypeDeclarationStub stub = getGreenStub();
+    if (stub != null) return stub.getTypeName();
     return getTypeName().getText();
   }
 
   @Override
   public @Nullable String getQualifiedName() {
-    String typeName = getTypeName().getText();
-    if (StringUtil.getPackageName(typeName).isEmpty()) {
-      String aPackage = DroolsResolveUtil.getCurrentPackage(PsiTreeUtil.getParentOfType(this, DroolsFile.class));
-      typeName =  aPackage +"." +typeName;
-    }
-    return typeName;
+    String typeName = getName();
+    String aPackage = DroolsResolveUtil.getCurrentPackage(getContainingFile() instanceof DroolsFile droolsFile ? droolsFile : null);
+    return DroolsDeclaredTypeIndex.getQualifiedName(aPackage, typeName);
   }
 
   @Override
@@ -124,18 +132,25 @@ public abstract class DroolsPsiClassImpl extends DroolsPsiCompositeElementImpl i
 
   @Override
   public PsiField @NotNull [] getFields() {
-    return findChildrenByClass(DroolsField.class);
+    return CachedValuesManager.getCachedValue(this, () -> CachedValueProvider.Result
+      .create(findChildrenByClass(DroolsField.class), PsiModificationTracker.getInstance(getProject()))).clone();
   }
 
+  /**
+   * Getters and setters of the declared fields, generated once per PSI modification. Callers get a copy of the cached array.
+   */
   @Override
   public PsiMethod @NotNull [] getMethods() {
-    Set<PsiMethod> generatedMethods = new HashSet<>();
-    PsiField[] fields = getFields();
-    for (final PsiField field : fields) {
+    return CachedValuesManager.getCachedValue(this, () -> CachedValueProvider.Result
+      .create(generateAccessors(), PsiModificationTracker.getInstance(getProject()))).clone();
+  }
+
+  private PsiMethod @NotNull [] generateAccessors() {
+    List<PsiMethod> generatedMethods = new ArrayList<>();
+    for (final PsiField field : getFields()) {
       generatedMethods.add(new GeneratedLightMethod(getManager(), PropertyUtilBase.generateGetterPrototype(field), field));
-      generatedMethods.add(new GeneratedLightMethod(getManager(), PropertyUtilBase.generateSetterPrototype(field), field)) ;
+      generatedMethods.add(new GeneratedLightMethod(getManager(), PropertyUtilBase.generateSetterPrototype(field), field));
     }
-
     return generatedMethods.toArray(PsiMethod.EMPTY_ARRAY);
   }
 
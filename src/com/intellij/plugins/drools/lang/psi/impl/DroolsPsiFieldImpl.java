@@ -2,13 +2,15 @@
 package com.intellij.plugins.drools.lang.psi.impl;
 
 import com.intellij.lang.ASTNode;
-import com.intellij.openapi.util.Computable;
 import com.intellij.plugins.drools.lang.psi.*;
 import com.intellij.plugins.drools.lang.psi.util.DroolsElementsFactory;
 import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.light.JavaIdentifier;
 import com.intellij.psi.javadoc.PsiDocComment;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NonNls;
@@ -19,8 +21,6 @@ import java.util.List;
 
 public abstract class DroolsPsiFieldImpl extends DroolsPsiCompositeElementImpl implements DroolsPsiField, DroolsField {
 
-  private Computable<PsiType> myType;
-
   public DroolsPsiFieldImpl(@NotNull ASTNode node) {
     super(node);
   }
@@ -56,6 +56,11 @@ public abstract class DroolsPsiFieldImpl extends DroolsPsiCompositeElementImpl i
 
   @Override
   public @NotNull PsiType getType() {
+    return CachedValuesManager.getCachedValue(this, () -> CachedValueProvider.Result
+      .create(computeType(), PsiModificationTracker.getInstance(getProject())));
+  }
+
+  private @NotNull PsiType computeType() {
     final DroolsFieldType droolsFieldType = getFieldType();
     if (droolsFieldType != null) {
       DroolsType type = droolsFieldType.getType();
@@ -6,14 +6,20 @@ import com.intellij.plugins.drools.lang.psi.DroolsParameters;
 import com.intellij.plugins.drools.lang.psi.DroolsQuery;
 import com.intellij.plugins.drools.lang.psi.DroolsQueryStatement;
 import com.intellij.plugins.drools.lang.psi.DroolsStringId;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsQueryStatementStub;
 import com.intellij.plugins.drools.lang.psi.util.DroolsElementsFactory;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.light.JavaIdentifier;
+import com.intellij.psi.stubs.IStubElementType;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
 
-public abstract class DroolsQueryImpl extends DroolsFakePsiMethod  implements DroolsQuery, DroolsQueryStatement, PsiTarget {
+public abstract class DroolsQueryImpl extends DroolsFakePsiMethod<DroolsQueryStatementStub> implements DroolsQuery, DroolsQueryStatement, PsiTarget {
+
+  public DroolsQueryImpl(@NotNull DroolsQueryStatementStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
 
   public DroolsQueryImpl(@NotNull ASTNode node) {
     super(node);
@@ -21,6 +27,8 @@ public abstract class DroolsQueryImpl extends DroolsFakePsiMethod  implements Dr
 
   @Override
   public String getQueryName() {
+    DroolsQueryStatementStub stub = getGreenStub();
+    if (stub != null) return stub.getName();
     return getStringId().getText();
   }
 
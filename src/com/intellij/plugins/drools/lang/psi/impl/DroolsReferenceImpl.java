@@ -9,6 +9,7 @@ import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.lang.psi.DroolsIdentifier;
 import com.intellij.plugins.drools.lang.psi.DroolsParExpr;
 import com.intellij.plugins.drools.lang.psi.DroolsReference;
+import com.intellij.plugins.drools.lang.psi.util.DroolsBeanPropertiesCache;
 import com.intellij.plugins.drools.lang.psi.util.DroolsElementsFactory;
 import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.*;
@@ -124,7 +125,7 @@ public abstract class DroolsReferenceImpl extends DroolsPsiCompositeElementImpl
       public boolean process(PsiElement psiElement) {
         if (psiElement instanceof PsiMethod) {
           if (PropertyUtilBase.isSimplePropertyGetter((PsiMethod)psiElement)) {
-            final BeanProperty property = BeanProperty.createBeanProperty((PsiMethod)psiElement);
+            final BeanProperty property = DroolsBeanPropertiesCache.getInstance(getProject()).getProperty((PsiMethod)psiElement);
             if (property != null) {
               getResults().add(property.getPsiElement());
             }
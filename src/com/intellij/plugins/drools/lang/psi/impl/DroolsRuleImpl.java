@@ -0,0 +1,63 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.impl;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.navigation.ItemPresentation;
+import com.intellij.navigation.PresentationData;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.JbossDroolsIcons;
+import com.intellij.plugins.drools.lang.psi.*;
+import com.intellij.plugins.drools.lang.psi.stubs.DroolsRuleStatementStub;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.stubs.IStubElementType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+public abstract class DroolsRuleImpl extends DroolsStubbedElementImpl<DroolsRuleStatementStub> implements DroolsRule, DroolsRuleStatement {
+
+  public DroolsRuleImpl(@NotNull DroolsRuleStatementStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
+  public DroolsRuleImpl(@NotNull ASTNode node) {
+    super(node);
+  }
+
+  @Override
+  public @NotNull String getRuleId() {
+    DroolsRuleStatementStub stub = getGreenStub();
+    if (stub != null) return stub.getRuleId();
+    return getRuleName().getStringId().getText();
+  }
+
+  @Override
+  public @Nullable String getParentRuleId() {
+    DroolsRuleStatementStub stub = getGreenStub();
+    if (stub != null) return stub.getParentRuleId();
+    DroolsParentRule parentRule = getParentRule();
+    return parentRule == null ? null : parentRule.getStringId().getText();
+  }
+
+  /**
+   * Unquoted rule name, as shown in Go to Symbol.
+   */
+  @Override
+  public @NotNull String getName() {
+    return StringUtil.unquoteString(getRuleId());
+  }
+
+  @Override
+  public ItemPresentation getPresentation() {
+    final PsiFile file = getContainingFile();
+    return new PresentationData(getName(), file == null ? null : file.getName(), JbossDroolsIcons.Drools_16, null);
+  }
+
+  @Override
+  public List<DroolsAttribute> getAttributes() {
+    DroolsRuleAttributes ruleAttributes = getRuleAttributes();
+    return ruleAttributes == null ? Collections.emptyList() : ruleAttributes.getAttributeList();
+  }
+}
@@ -0,0 +1,30 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.impl;
+
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
+import com.intellij.lang.ASTNode;
+import com.intellij.plugins.drools.lang.psi.DroolsPsiCompositeElement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsStubbedElementImpl<T extends StubElement<?>> extends StubBasedPsiElementBase<T> implements DroolsPsiCompositeElement {
+  public DroolsStubbedElementImpl(@NotNull T stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
+  public DroolsStubbedElementImpl(@NotNull ASTNode node) {
+    super(node);
+  }
+
+  @Override
+  public IElementType getTokenType() {
+    return getElementType();
+  }
+
+  @Override
+  public String toString() {
+    return getTokenType().toString();
+  }
+}
@@ -0,0 +1,241 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.plugins.drools.DroolsFileType;
+import com.intellij.plugins.drools.lang.lexer.DroolsLexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypeSets;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.intellij.util.io.externalizer.StringCollectionExternalizer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
+
+/**
+ * Maps bean property names used in constraints, modify blocks and accessor chains to the short names of the types they are
+ * used on. {@link #UNKNOWN_TYPE} stands for usages whose qualifier type cannot be told from the tokens, e.g. nested chains.
+ */
+public final class DroolsBeanPropertyIndex extends FileBasedIndexExtension<String, List<String>> {
+  public static final ID<String, List<String>> NAME = ID.create("drools.beanPropertyIndex");
+  public static final String UNKNOWN_TYPE = "?";
+
+  private static final TokenSet SKIPPED = TokenSet.orSet(TokenSet.create(TokenType.WHITE_SPACE), DroolsTokenTypeSets.COMMENTS);
+  private static final TokenSet CHUNKS = TokenSet.create(JAVA_STATEMENT, CHUNK_BLOCK);
+  private static final TokenSet CLOSING_BRACES = TokenSet.create(RPAREN, RBRACKET, RBRACE);
+  private static final Pattern CHUNK_ACCESSOR = Pattern.compile("(?:(\\$?[A-Za-z_]\\w*)\\s*)?\\.\\s*([A-Za-z_$][\\w$]*)(\\s*\\()?");
+
+  // frame markers, never valid type names
+  private static final String PATTERN_CONTEXT = "<pattern>";
+  private static final String MODIFY_TARGET = "<modify>";
+
+  @Override
+  public @NotNull ID<String, List<String>> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, List<String>, FileContent> getIndexer() {
+    return inputData -> scanPropertyUsages(inputData.getContentAsText());
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public @NotNull DataExternalizer<List<String>> getValueExternalizer() {
+    return StringCollectionExternalizer.STRING_LIST_EXTERNALIZER;
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @Override
+  public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(DroolsFileType.DROOLS_FILE_TYPE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * Files using {@code propertyName} on one of {@code typeNames} (short names) or on a type that is not known from the index.
+   */
+  public static @NotNull Set<VirtualFile> getCandidateFiles(@NotNull String propertyName,
+                                                            @NotNull Set<String> typeNames,
+                                                            @NotNull GlobalSearchScope scope) {
+    return getCandidateFiles(getPropertyUsages(propertyName, scope), typeNames);
+  }
+
+  public static @NotNull Set<VirtualFile> getCandidateFiles(@NotNull Map<VirtualFile, List<String>> usages, @NotNull Set<String> typeNames) {
+    Set<VirtualFile> files = new HashSet<>();
+    usages.forEach((file, types) -> {
+      if (types.contains(UNKNOWN_TYPE) || ContainerUtil.intersects(types, typeNames)) files.add(file);
+    });
+    return files;
+  }
+
+  /**
+   * Short names of the types {@code propertyName} is used on, per file.
+   */
+  public static @NotNull Map<VirtualFile, List<String>> getPropertyUsages(@NotNull String propertyName, @NotNull GlobalSearchScope scope) {
+    Map<VirtualFile, List<String>> usages = new HashMap<>();
+    FileBasedIndex.getInstance().processValues(NAME, propertyName, null, (file, types) -> {
+      usages.put(file, types);
+      return true;
+    }, scope);
+    return usages;
+  }
+
+  static @NotNull Map<String, List<String>> scanPropertyUsages(@NotNull CharSequence text) {
+    Map<String, Set<String>> usages = new HashMap<>();
+    List<IElementType> types = new ArrayList<>();
+    List<String> texts = new ArrayList<>();
+    Lexer lexer = new DroolsLexer();
+    lexer.start(text);
+    for (IElementType tokenType = lexer.getTokenType(); tokenType != null; lexer.advance(), tokenType = lexer.getTokenType()) {
+      if (SKIPPED.contains(tokenType)) continue;
+      types.add(tokenType);
+      texts.add(tokenType == JAVA_IDENTIFIER || CHUNKS.contains(tokenType) ? lexer.getTokenText() : null);
+    }
+
+    Map<String, String> binds = new HashMap<>();
+    Deque<String> frames = new ArrayDeque<>();
+    boolean inLhs = false;
+    boolean inRhs = false;
+    String pendingPatternType = null;
+    String pendingBind = null;
+    String chainQualifier = null;
+    String modifyType = null;
+    boolean modifyBlockExpected = false;
+
+    for (int i = 0; i < types.size(); i++) {
+      IElementType tokenType = types.get(i);
+      IElementType next = i + 1 < types.size() ? types.get(i + 1) : null;
+      IElementType previous = i > 0 ? types.get(i - 1) : null;
+      boolean afterDot = previous == DOT || previous == NULL_DOT;
+
+      if (tokenType == RULE || tokenType == QUERY) {
+        binds.clear();
+        frames.clear();
+        inLhs = tokenType == QUERY;
+        inRhs = false;
+      }
+      else if (tokenType == WHEN || tokenType == THEN) {
+        frames.clear();
+        inLhs = tokenType == WHEN;
+        inRhs = tokenType == THEN;
+      }
+      else if (tokenType == END) {
+        inLhs = false;
+        inRhs = false;
+      }
+      else if (CHUNKS.contains(tokenType)) {
+        scanChunk(texts.get(i), binds, usages);
+      }
+      else if (!inLhs && !inRhs) {
+        continue;
+      }
+      else if (tokenType == JAVA_IDENTIFIER) {
+        String name = texts.get(i);
+        String frameType = frames.peek();
+        boolean patternContext = inLhs && (frameType == null || frameType == PATTERN_CONTEXT);
+        if (patternContext && next == LPAREN) {
+          pendingPatternType = name;
+        }
+        else if (frameType == MODIFY_TARGET) {
+          modifyType = binds.getOrDefault(name, UNKNOWN_TYPE);
+        }
+        else if (afterDot) {
+          String qualifierType = chainQualifier == null ? null : binds.get(chainQualifier);
+          addUsage(usages, getPropertyName(name, next == LPAREN), qualifierType == null ? UNKNOWN_TYPE : qualifierType);
+        }
+        else if (next == COLON) {
+          if (patternContext) pendingBind = name;
+        }
+        else if (!patternContext && !binds.containsKey(name)) {
+          addUsage(usages, getPropertyName(name, next == LPAREN), frameType == null ? UNKNOWN_TYPE : frameType);
+        }
+        chainQualifier = next == DOT || next == NULL_DOT ? name : null;
+        continue;
+      }
+      else if (tokenType == LPAREN) {
+        if (pendingPatternType != null) {
+          if (pendingBind != null) binds.put(pendingBind, pendingPatternType);
+          frames.push(pendingPatternType);
+        }
+        else if (previous == MODIFY) {
+          frames.push(MODIFY_TARGET);
+        }
+        else {
+          String frameType = frames.peek();
+          frames.push(frameType == null ? (inLhs ? PATTERN_CONTEXT : UNKNOWN_TYPE) : frameType);
+        }
+        pendingPatternType = null;
+        pendingBind = null;
+      }
+      else if (tokenType == LBRACE) {
+        String frameType = frames.peek();
+        frames.push(modifyBlockExpected ? StringUtil.notNullize(modifyType, UNKNOWN_TYPE) : frameType == null ? UNKNOWN_TYPE : frameType);
+      }
+      else if (tokenType == LBRACKET) {
+        frames.push(UNKNOWN_TYPE);
+      }
+      else if (CLOSING_BRACES.contains(tokenType)) {
+        String frameType = frames.poll();
+        modifyBlockExpected = frameType == MODIFY_TARGET;
+        continue;
+      }
+      modifyBlockExpected = false;
+      if (tokenType != DOT && tokenType != NULL_DOT) chainQualifier = null;
+    }
+
+    Map<String, List<String>> result = new HashMap<>();
+    usages.forEach((property, typeNames) -> result.put(property, new ArrayList<>(typeNames)));
+    return result;
+  }
+
+  private static void scanChunk(@NotNull String chunk, @NotNull Map<String, String> binds, @NotNull Map<String, Set<String>> usages) {
+    Matcher matcher = CHUNK_ACCESSOR.matcher(chunk);
+    while (matcher.find()) {
+      String qualifier = matcher.group(1);
+      String qualifierType = qualifier == null ? null : binds.get(qualifier);
+      addUsage(usages, getPropertyName(matcher.group(2), matcher.group(3) != null), qualifierType == null ? UNKNOWN_TYPE : qualifierType);
+    }
+  }
+
+  private static @NotNull String getPropertyName(@NotNull String name, boolean isCall) {
+    if (isCall) {
+      for (String prefix : new String[]{"get", "set", "is"}) {
+        if (name.length() > prefix.length() && name.startsWith(prefix) && Character.isUpperCase(name.charAt(prefix.length()))) {
+          return StringUtil.decapitalize(name.substring(prefix.length()));
+        }
+      }
+    }
+    return name;
+  }
+
+  private static void addUsage(@NotNull Map<String, Set<String>> usages, @NotNull String property, @Nullable String typeName) {
+    usages.computeIfAbsent(property, k -> new HashSet<>()).add(typeName == null ? UNKNOWN_TYPE : typeName);
+  }
+}
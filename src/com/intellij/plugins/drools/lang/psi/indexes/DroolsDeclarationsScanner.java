@@ -0,0 +1,109 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsLexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypeSets;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
+
+/**
+ * Collects the package and the declared type names of a DRL file with the lexer only, so indexing never builds PSI.
+ * Rule consequences and function bodies come out of {@link DroolsLexer} as single chunks and are skipped for free.
+ */
+public final class DroolsDeclarationsScanner {
+  private static final TokenSet SKIPPED = TokenSet.orSet(TokenSet.create(TokenType.WHITE_SPACE), DroolsTokenTypeSets.COMMENTS);
+  private static final TokenSet QUALIFIER_SEPARATORS = TokenSet.create(DOT, NULL_DOT);
+  private static final String TYPE_MODIFIER = "type";
+  private static final String TRAIT_MODIFIER = "trait";
+
+  private final Lexer myLexer = new DroolsLexer();
+  private String myPackageName = "";
+  private final List<String> myDeclaredTypes = new ArrayList<>();
+
+  private DroolsDeclarationsScanner() {
+  }
+
+  public static @NotNull DroolsDeclarationsScanner scan(@NotNull CharSequence text) {
+    DroolsDeclarationsScanner scanner = new DroolsDeclarationsScanner();
+    scanner.doScan(text);
+    return scanner;
+  }
+
+  public @NotNull String getPackageName() {
+    return myPackageName;
+  }
+
+  /**
+   * Type and enum names as written after {@code declare}, without the package.
+   */
+  public @NotNull List<String> getDeclaredTypes() {
+    return myDeclaredTypes;
+  }
+
+  private void doScan(@NotNull CharSequence text) {
+    myLexer.start(text);
+    boolean packageAllowed = true;
+    for (IElementType tokenType = nextSignificant(); tokenType != null; tokenType = nextSignificant()) {
+      if (tokenType == PACKAGE && packageAllowed) {
+        myLexer.advance();
+        String packageName = readQualifiedName();
+        if (packageName != null) myPackageName = packageName;
+      }
+      else if (tokenType == DECLARE) {
+        myLexer.advance();
+        String typeName = readDeclaredTypeName();
+        if (typeName != null) myDeclaredTypes.add(typeName);
+      }
+      else {
+        myLexer.advance();
+      }
+      packageAllowed = false;
+    }
+  }
+
+  private @Nullable String readDeclaredTypeName() {
+    IElementType tokenType = nextSignificant();
+    if (tokenType == ENTRY_POINT || tokenType == WINDOW) return null;
+    if (tokenType == ENUM) {
+      myLexer.advance();
+      return readQualifiedName();
+    }
+
+    String typeName = readQualifiedName();
+    while ((TYPE_MODIFIER.equals(typeName) || TRAIT_MODIFIER.equals(typeName)) && nextSignificant() == JAVA_IDENTIFIER) {
+      typeName = readQualifiedName();
+    }
+    return typeName;
+  }
+
+  private @Nullable String readQualifiedName() {
+    if (nextSignificant() != JAVA_IDENTIFIER) return null;
+
+    StringBuilder name = new StringBuilder();
+    while (true) {
+      name.append(myLexer.getTokenSequence());
+      myLexer.advance();
+      if (!QUALIFIER_SEPARATORS.contains(nextSignificant())) break;
+      myLexer.advance();
+      if (nextSignificant() != JAVA_IDENTIFIER) break;
+      name.append('.');
+    }
+    return name.toString();
+  }
+
+  private @Nullable IElementType nextSignificant() {
+    while (SKIPPED.contains(myLexer.getTokenType())) {
+      myLexer.advance();
+    }
+    return myLexer.getTokenType();
+  }
+}
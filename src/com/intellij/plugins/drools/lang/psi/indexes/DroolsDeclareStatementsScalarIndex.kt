@@ -2,7 +2,6 @@
 package com.intellij.plugins.drools.lang.psi.indexes
 
 import com.intellij.plugins.drools.DroolsFileType
-import com.intellij.plugins.drools.lang.psi.DroolsFile
 import com.intellij.util.indexing.*
 import com.intellij.util.io.DataExternalizer
 import com.intellij.util.io.EnumeratorStringDescriptor
@@ -20,24 +19,19 @@ internal class DroolsDeclareStatementScalarIndex : FileBasedIndexExtension<Strin
 
   override fun getIndexer(): DataIndexer<String, List<String>, FileContent> {
     return DataIndexer { inputData ->
-      val declarations = hashMapOf<String, List<String>>()
-      val file = inputData.psiFile as? DroolsFile ?: return@DataIndexer emptyMap<String, List<String>>()
-      val pkg = file.`package`?.namespace?.text ?: ""
+      val scanner = DroolsDeclarationsScanner.scan(inputData.contentAsText)
+      val pkg = scanner.packageName
 
-      val values = mutableListOf<String>()
-      for (declareStatement in file.declarations) {
-        declareStatement.typeDeclaration?.qualifiedName?.let { values.add(it) }
-      }
+      val values = scanner.declaredTypes.map { DroolsDeclaredTypeIndex.getQualifiedName(pkg, it) }
+      if (values.isEmpty()) return@DataIndexer emptyMap<String, List<String>>()
 
-      if (!values.isEmpty()) declarations.put(pkg, values)
-
-      return@DataIndexer declarations
+      return@DataIndexer mapOf(pkg to values)
     }
   }
 
   override fun getValueExternalizer(): DataExternalizer<List<String>> = StringCollectionExternalizer.STRING_LIST_EXTERNALIZER
 
-  override fun getVersion(): Int = 2
+  override fun getVersion(): Int = 4
 
   override fun getInputFilter(): FileBasedIndex.InputFilter = DefaultFileTypeSpecificInputFilter(DroolsFileType.DROOLS_FILE_TYPE)
 
@@ -0,0 +1,19 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Declared types keyed by the short name of the type they extend.
+ */
+public final class DroolsDeclaredSuperTypeIndex extends StringStubIndexExtension<DroolsPsiClass> {
+  public static final StubIndexKey<String, DroolsPsiClass> KEY = StubIndexKey.createIndexKey("drools.declaredSuperType");
+
+  @Override
+  public @NotNull StubIndexKey<String, DroolsPsiClass> getKey() {
+    return KEY;
+  }
+}
@@ -0,0 +1,35 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Declared types and enums keyed by fully qualified name.
+ */
+public final class DroolsDeclaredTypeIndex extends StringStubIndexExtension<DroolsPsiClass> {
+  public static final StubIndexKey<String, DroolsPsiClass> KEY = StubIndexKey.createIndexKey("drools.declaredTypeFqn");
+
+  @Override
+  public @NotNull StubIndexKey<String, DroolsPsiClass> getKey() {
+    return KEY;
+  }
+
+  public static @NotNull String getQualifiedName(@NotNull String packageName, @NotNull String typeName) {
+    return StringUtil.getPackageName(typeName).isEmpty() ? StringUtil.getQualifiedName(packageName, typeName) : typeName;
+  }
+
+  public static @NotNull Collection<DroolsPsiClass> getDeclaredTypes(@NotNull String qualifiedName,
+                                                                    @NotNull Project project,
+                                                                    @NotNull GlobalSearchScope scope) {
+    return StubIndex.getElements(KEY, qualifiedName, project, scope, DroolsPsiClass.class);
+  }
+}
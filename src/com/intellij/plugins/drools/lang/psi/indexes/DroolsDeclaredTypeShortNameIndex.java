@@ -0,0 +1,19 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Declared types and enums keyed by short name.
+ */
+public final class DroolsDeclaredTypeShortNameIndex extends StringStubIndexExtension<DroolsPsiClass> {
+  public static final StubIndexKey<String, DroolsPsiClass> KEY = StubIndexKey.createIndexKey("drools.declaredTypeShortName");
+
+  @Override
+  public @NotNull StubIndexKey<String, DroolsPsiClass> getKey() {
+    return KEY;
+  }
+}
@@ -0,0 +1,151 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.lexer.Lexer;
+import com.intellij.plugins.drools.DroolsFileType;
+import com.intellij.plugins.drools.lang.lexer.DroolsLexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypeSets;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
+
+/**
+ * Maps the short type name of every LHS pattern to the start offsets of its pattern types. OOPath roots are keyed by
+ * {@link #OOPATH_ROOT_PREFIX} followed by the data source name, since their type is only known after resolving the rule unit.
+ * <p>
+ * Keys are collected from lexer tokens and may contain false positives (e.g. function calls in constraints), so every hit
+ * has to be verified against the PSI.
+ */
+public final class DroolsFactTypeIndex extends FileBasedIndexExtension<String, List<Integer>> {
+  public static final ID<String, List<Integer>> NAME = ID.create("drools.factTypeIndex");
+  public static final String OOPATH_ROOT_PREFIX = "/";
+
+  private static final TokenSet SKIPPED = TokenSet.orSet(TokenSet.create(TokenType.WHITE_SPACE), DroolsTokenTypeSets.COMMENTS);
+
+  @Override
+  public @NotNull ID<String, List<Integer>> getName() {
+    return NAME;
+  }
+
+  @Override
+  public @NotNull DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+    return inputData -> scanPatterns(inputData.getContentAsText());
+  }
+
+  @Override
+  public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public @NotNull DataExternalizer<List<Integer>> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<Integer> offsets) throws IOException {
+        DataInputOutputUtil.writeINT(out, offsets.size());
+        for (int offset : offsets) {
+          DataInputOutputUtil.writeINT(out, offset);
+        }
+      }
+
+      @Override
+      public List<Integer> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<Integer> offsets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          offsets.add(DataInputOutputUtil.readINT(in));
+        }
+        return offsets;
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  @Override
+  public @NotNull FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(DroolsFileType.DROOLS_FILE_TYPE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  static @NotNull Map<String, List<Integer>> scanPatterns(@NotNull CharSequence text) {
+    Map<String, List<Integer>> patterns = new HashMap<>();
+    Lexer lexer = new DroolsLexer();
+    lexer.start(text);
+
+    boolean inLhs = false;
+    IElementType tokenType;
+    while ((tokenType = nextSignificant(lexer)) != null) {
+      if (tokenType == WHEN || tokenType == QUERY) {
+        inLhs = true;
+      }
+      else if (tokenType == THEN || tokenType == END || tokenType == RULE) {
+        inLhs = false;
+      }
+      else if (inLhs && tokenType == JAVA_IDENTIFIER) {
+        int start = lexer.getTokenStart();
+        String shortName = readQualifiedShortName(lexer);
+        if (nextSignificant(lexer) == LPAREN) {
+          addOccurrence(patterns, shortName, start);
+        }
+        continue;
+      }
+      else if (inLhs && tokenType == OP_DIV) {
+        lexer.advance();
+        if (nextSignificant(lexer) == JAVA_IDENTIFIER) {
+          addOccurrence(patterns, OOPATH_ROOT_PREFIX + lexer.getTokenText(), lexer.getTokenStart());
+        }
+        continue;
+      }
+      lexer.advance();
+    }
+    return patterns;
+  }
+
+  private static @NotNull String readQualifiedShortName(@NotNull Lexer lexer) {
+    String shortName = lexer.getTokenText();
+    lexer.advance();
+    while (nextSignificant(lexer) == DOT) {
+      lexer.advance();
+      if (nextSignificant(lexer) != JAVA_IDENTIFIER) break;
+      shortName = lexer.getTokenText();
+      lexer.advance();
+    }
+    return shortName;
+  }
+
+  private static void addOccurrence(@NotNull Map<String, List<Integer>> patterns, @NotNull String key, int offset) {
+    patterns.computeIfAbsent(key, k -> new ArrayList<>()).add(offset);
+  }
+
+  private static @Nullable IElementType nextSignificant(@NotNull Lexer lexer) {
+    while (SKIPPED.contains(lexer.getTokenType())) {
+      lexer.advance();
+    }
+    return lexer.getTokenType();
+  }
+}
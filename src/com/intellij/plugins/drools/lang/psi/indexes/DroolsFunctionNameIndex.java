@@ -0,0 +1,19 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.plugins.drools.lang.psi.DroolsFunctionStatement;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Functions keyed by {@code <package>:<name>}, see {@link DroolsIndexUtil#getPackageMemberKey}.
+ */
+public final class DroolsFunctionNameIndex extends StringStubIndexExtension<DroolsFunctionStatement> {
+  public static final StubIndexKey<String, DroolsFunctionStatement> KEY = StubIndexKey.createIndexKey("drools.functionName");
+
+  @Override
+  public @NotNull StubIndexKey<String, DroolsFunctionStatement> getKey() {
+    return KEY;
+  }
+}
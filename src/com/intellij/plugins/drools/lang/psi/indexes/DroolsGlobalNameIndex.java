@@ -0,0 +1,19 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.plugins.drools.lang.psi.DroolsGlobalStatement;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Globals keyed by {@code <package>:<name>}, see {@link DroolsIndexUtil#getPackageMemberKey}.
+ */
+public final class DroolsGlobalNameIndex extends StringStubIndexExtension<DroolsGlobalStatement> {
+  public static final StubIndexKey<String, DroolsGlobalStatement> KEY = StubIndexKey.createIndexKey("drools.globalName");
+
+  @Override
+  public @NotNull StubIndexKey<String, DroolsGlobalStatement> getKey() {
+    return KEY;
+  }
+}
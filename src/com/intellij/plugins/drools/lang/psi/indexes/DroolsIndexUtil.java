@@ -0,0 +1,65 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class DroolsIndexUtil {
+  private DroolsIndexUtil() {
+  }
+
+  /**
+   * Package members (rules, functions, queries, globals) are indexed by {@code <package>:<unquoted name>}.
+   */
+  public static @NotNull String getPackageMemberKey(@NotNull String packageName, @NotNull String name) {
+    return getPackagePrefix(packageName) + StringUtil.unquoteString(name);
+  }
+
+  /**
+   * @return unquoted member name of a {@link #getPackageMemberKey} key
+   */
+  public static @NotNull String getMemberName(@NotNull String key) {
+    return key.substring(key.indexOf(':') + 1);
+  }
+
+  /**
+   * @param name member name or {@code null} to collect all members of the package
+   */
+  public static <T extends PsiElement> @NotNull Collection<T> getPackageMembers(@NotNull StubIndexKey<String, T> indexKey,
+                                                                               @NotNull Class<T> aClass,
+                                                                               @NotNull String packageName,
+                                                                               @Nullable String name,
+                                                                               @NotNull Project project,
+                                                                               @NotNull GlobalSearchScope scope) {
+    if (name != null) {
+      return StubIndex.getElements(indexKey, getPackageMemberKey(packageName, name), project, scope, aClass);
+    }
+
+    final String prefix = getPackagePrefix(packageName);
+    final List<String> keys = new ArrayList<>();
+    StubIndex.getInstance().processAllKeys(indexKey, project, key -> {
+      if (key.startsWith(prefix)) keys.add(key);
+      return true;
+    });
+
+    final List<T> members = new ArrayList<>();
+    for (String key : keys) {
+      members.addAll(StubIndex.getElements(indexKey, key, project, scope, aClass));
+    }
+    return members;
+  }
+
+  private static @NotNull String getPackagePrefix(@NotNull String packageName) {
+    return packageName + ":";
+  }
+}
@@ -0,0 +1,19 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.plugins.drools.lang.psi.DroolsQueryStatement;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Queries keyed by {@code <package>:<name>}, see {@link DroolsIndexUtil#getPackageMemberKey}.
+ */
+public final class DroolsQueryNameIndex extends StringStubIndexExtension<DroolsQueryStatement> {
+  public static final StubIndexKey<String, DroolsQueryStatement> KEY = StubIndexKey.createIndexKey("drools.queryName");
+
+  @Override
+  public @NotNull StubIndexKey<String, DroolsQueryStatement> getKey() {
+    return KEY;
+  }
+}
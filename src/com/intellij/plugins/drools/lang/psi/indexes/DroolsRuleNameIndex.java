@@ -0,0 +1,35 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.indexes;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.plugins.drools.lang.psi.DroolsRuleStatement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Rules keyed by {@code <package>:<unquoted rule name>}, see {@link DroolsIndexUtil#getPackageMemberKey}.
+ */
+public final class DroolsRuleNameIndex extends StringStubIndexExtension<DroolsRuleStatement> {
+  public static final StubIndexKey<String, DroolsRuleStatement> KEY = StubIndexKey.createIndexKey("drools.ruleName");
+
+  @Override
+  public @NotNull StubIndexKey<String, DroolsRuleStatement> getKey() {
+    return KEY;
+  }
+
+  public static @NotNull String getIndexKey(@NotNull String packageName, @NotNull String ruleId) {
+    return DroolsIndexUtil.getPackageMemberKey(packageName, ruleId);
+  }
+
+  public static @NotNull Collection<DroolsRuleStatement> getRules(@NotNull String packageName,
+                                                                  @NotNull String ruleId,
+                                                                  @NotNull Project project,
+                                                                  @NotNull GlobalSearchScope scope) {
+    return StubIndex.getElements(KEY, getIndexKey(packageName, ruleId), project, scope, DroolsRuleStatement.class);
+  }
+}
@@ -3,47 +3,56 @@
 package com.intellij.plugins.drools.lang.psi.searchers;
 
 import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.plugins.drools.lang.psi.DroolsDeclareStatement;
-import com.intellij.plugins.drools.lang.psi.DroolsFile;
-import com.intellij.plugins.drools.lang.psi.DroolsTypeDeclaration;
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
 import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclareStatementScalarIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclaredTypeIndex;
 import com.intellij.plugins.drools.lang.psi.util.DroolsLightClass;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElementFinder;
-import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.impl.file.PsiPackageImpl;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.containers.ConcurrentFactoryMap;
+import com.intellij.util.containers.ContainerUtil;
 import com.intellij.util.indexing.FileBasedIndex;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
+import java.util.*;
 
 public final class DroolsClassFinder extends PsiElementFinder {
+  private static final Key<CachedValue<Map<String, Map<VirtualFile, List<String>>>>> PACKAGE_TYPES_KEY =
+    Key.create("DROOLS_PACKAGE_DECLARED_TYPES");
 
+  private final Project myProject;
+
+  public DroolsClassFinder(@NotNull Project project) {
+    myProject = project;
+  }
+
+  /**
+   * Finds both {@code declare} types and {@code declare enum} types, so Java code can refer to DRL enums like to
+   * declared types.
+   */
   @Override
   public @Nullable PsiClass findClass(@NotNull String qualifiedName, @NotNull GlobalSearchScope scope) {
-    if (scope.getProject() == null) return null;
-
-    String packageName = StringUtil.getPackageName(qualifiedName);
-    Collection<VirtualFile> filesByExt = ReadAction.compute(
-      () -> FileBasedIndex.getInstance().getContainingFiles(DroolsDeclareStatementScalarIndex.Companion.getId(), packageName, scope));
-    if (filesByExt.isEmpty()) return null;
-    PsiManager psiManager = PsiManager.getInstance(scope.getProject());
-    for (VirtualFile file : filesByExt) {
-      PsiFile psiFile = psiManager.findFile(file);
-      if (psiFile instanceof DroolsFile) {
-        for (DroolsDeclareStatement declareStatement : ((DroolsFile)psiFile).getDeclarations()) {
-          DroolsTypeDeclaration typeDeclaration = declareStatement.getTypeDeclaration();
-          if (typeDeclaration != null && qualifiedName.equals(typeDeclaration.getQualifiedName())) {
-            return new DroolsLightClass(typeDeclaration);
-          }
-        }
-      }
-    }
-    return null;
+    Project project = scope.getProject();
+    if (project == null) return null;
+
+    Collection<DroolsPsiClass> declaredTypes =
+      ReadAction.compute(() -> DroolsDeclaredTypeIndex.getDeclaredTypes(qualifiedName, project, scope));
+    DroolsPsiClass declaredType = ContainerUtil.getFirstItem(declaredTypes);
+    return declaredType == null ? null : DroolsLightClass.getInstance(declaredType);
   }
 
   @Override
@@ -51,4 +60,60 @@ public final class DroolsClassFinder extends PsiElementFinder {
     PsiClass aClass = findClass(qualifiedName, scope);
     return aClass == null ? PsiClass.EMPTY_ARRAY : new PsiClass[]{aClass};
   }
+
+  @Override
+  public @Nullable PsiPackage findPackage(@NotNull String qualifiedName) {
+    if (qualifiedName.isEmpty() || DumbService.isDumb(myProject)) return null;
+    if (getPackageTypes(qualifiedName).isEmpty()) return null;
+    return new PsiPackageImpl(PsiManager.getInstance(myProject), qualifiedName);
+  }
+
+  @Override
+  public PsiClass @NotNull [] getClasses(@NotNull PsiPackage psiPackage, @NotNull GlobalSearchScope scope) {
+    if (DumbService.isDumb(myProject)) return PsiClass.EMPTY_ARRAY;
+
+    List<PsiClass> classes = new ArrayList<>();
+    for (String qualifiedName : getQualifiedNames(psiPackage, scope)) {
+      ContainerUtil.addIfNotNull(classes, findClass(qualifiedName, scope));
+    }
+    return classes.toArray(PsiClass.EMPTY_ARRAY);
+  }
+
+  @Override
+  public @NotNull Set<String> getClassNames(@NotNull PsiPackage psiPackage, @NotNull GlobalSearchScope scope) {
+    if (DumbService.isDumb(myProject)) return Collections.emptySet();
+
+    Set<String> names = new HashSet<>();
+    for (String qualifiedName : getQualifiedNames(psiPackage, scope)) {
+      names.add(StringUtil.getShortName(qualifiedName));
+    }
+    return names;
+  }
+
+  private @NotNull Set<String> getQualifiedNames(@NotNull PsiPackage psiPackage, @NotNull GlobalSearchScope scope) {
+    Set<String> qualifiedNames = new LinkedHashSet<>();
+    for (Map.Entry<VirtualFile, List<String>> entry : getPackageTypes(psiPackage.getQualifiedName()).entrySet()) {
+      if (scope.contains(entry.getKey())) {
+        qualifiedNames.addAll(entry.getValue());
+      }
+    }
+    return qualifiedNames;
+  }
+
+  private @NotNull Map<VirtualFile, List<String>> getPackageTypes(@NotNull String packageName) {
+    return CachedValuesManager.getManager(myProject).getCachedValue(myProject, PACKAGE_TYPES_KEY, () -> {
+      Map<String, Map<VirtualFile, List<String>>> packageTypes = ConcurrentFactoryMap.createMap(this::computePackageTypes);
+      return CachedValueProvider.Result.create(packageTypes, DroolsResolveUtil.getDroolsModificationDependencies(myProject));
+    }, false).get(packageName);
+  }
+
+  private @NotNull Map<VirtualFile, List<String>> computePackageTypes(@NotNull String packageName) {
+    Map<VirtualFile, List<String>> packageTypes = new HashMap<>();
+    ReadAction.run(() -> FileBasedIndex.getInstance().processValues(
+      DroolsDeclareStatementScalarIndex.Companion.getId(), packageName, null, (file, qualifiedNames) -> {
+        packageTypes.put(file, qualifiedNames);
+        return true;
+      }, GlobalSearchScope.allScope(myProject)));
+    return packageTypes.isEmpty() ? Collections.emptyMap() : packageTypes;
+  }
 }
@@ -0,0 +1,115 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.searchers;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.plugins.drools.lang.psi.*;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsFactTypeIndex;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
+import com.intellij.plugins.drools.lang.psi.util.DroolsRuleUnitResolver;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Finds rules and queries whose LHS patterns or OOPath roots match a class. Candidates come from {@link DroolsFactTypeIndex}
+ * under the class's short name and the names of its data sources, only they are resolved.
+ */
+public final class DroolsFactTypeUsagesSearcher {
+  private DroolsFactTypeUsagesSearcher() {
+  }
+
+  /**
+   * Cheap index-only check, may report classes whose candidates do not resolve to it.
+   */
+  public static boolean hasPatternCandidates(@NotNull PsiClass psiClass, @NotNull GlobalSearchScope scope) {
+    String name = psiClass.getName();
+    return name != null && !FileBasedIndex.getInstance().getContainingFiles(DroolsFactTypeIndex.NAME, name, scope).isEmpty();
+  }
+
+  public static @NotNull Collection<PsiElement> findMatchingRules(@NotNull PsiClass psiClass, @NotNull GlobalSearchScope scope) {
+    String name = psiClass.getName();
+    String qualifiedName = psiClass.getQualifiedName();
+    if (name == null || qualifiedName == null) return Collections.emptyList();
+
+    Project project = psiClass.getProject();
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    List<String> keys = new ArrayList<>();
+    keys.add(name);
+    for (String dataSource : findDataSourceNames(psiClass, scope)) {
+      keys.add(DroolsFactTypeIndex.OOPATH_ROOT_PREFIX + dataSource);
+    }
+
+    Map<VirtualFile, List<Integer>> candidates = new LinkedHashMap<>();
+    for (String key : keys) {
+      index.processValues(DroolsFactTypeIndex.NAME, key, null, (file, offsets) -> {
+        candidates.computeIfAbsent(file, f -> new ArrayList<>()).addAll(offsets);
+        return true;
+      }, scope);
+    }
+
+    Set<PsiElement> rules = new LinkedHashSet<>();
+    PsiManager psiManager = PsiManager.getInstance(project);
+    for (Map.Entry<VirtualFile, List<Integer>> entry : candidates.entrySet()) {
+      if (!(psiManager.findFile(entry.getKey()) instanceof DroolsFile droolsFile)) continue;
+      for (int offset : entry.getValue()) {
+        PsiElement element = droolsFile.findElementAt(offset);
+        if (element != null && matches(element, qualifiedName)) {
+          PsiElement rule = PsiTreeUtil.getParentOfType(element, DroolsRuleStatement.class, DroolsQueryStatement.class);
+          if (rule != null) rules.add(rule);
+        }
+      }
+    }
+    return rules;
+  }
+
+  /**
+   * Names of {@code DataStore}/{@code DataStream} fields with {@code psiClass} elements, the only OOPath roots that may match it.
+   * They are found among the Java references to the class, so no unrelated data source is resolved.
+   */
+  private static @NotNull Set<String> findDataSourceNames(@NotNull PsiClass psiClass, @NotNull GlobalSearchScope scope) {
+    Project project = psiClass.getProject();
+    Set<String> names = new LinkedHashSet<>();
+    GlobalSearchScope javaScope = GlobalSearchScope.getScopeRestrictedByFileTypes(scope, JavaFileType.INSTANCE);
+    ReferencesSearch.search(psiClass, javaScope).forEach(reference -> {
+      PsiField field = PsiTreeUtil.getParentOfType(reference.getElement(), PsiField.class);
+      PsiTypeElement typeElement = field == null ? null : field.getTypeElement();
+      PsiClass containingClass = field == null ? null : field.getContainingClass();
+      if (containingClass != null && typeElement != null && PsiTreeUtil.isAncestor(typeElement, reference.getElement(), false)) {
+        PsiType elementType = DroolsRuleUnitResolver.getInstance(project).getDataSources(containingClass).get(field.getName());
+        if (elementType instanceof PsiClassType classType && psiClass.getManager().areElementsEquivalent(psiClass, classType.resolve())) {
+          names.add(field.getName());
+        }
+      }
+      return true;
+    });
+    return names;
+  }
+
+  private static boolean matches(@NotNull PsiElement element, @NotNull String qualifiedName) {
+    DroolsLhsPatternType patternType = PsiTreeUtil.getParentOfType(element, DroolsLhsPatternType.class);
+    if (patternType != null) {
+      DroolsLhsPattern pattern = PsiTreeUtil.getParentOfType(patternType, DroolsLhsPattern.class);
+      return pattern != null && containsClass(DroolsResolveUtil.getPatternBindType(Collections.singleton(pattern)), qualifiedName);
+    }
+
+    DroolsLhsOOPSegment segment = PsiTreeUtil.getParentOfType(element, DroolsLhsOOPSegment.class);
+    if (segment != null && segment.getParent() instanceof DroolsLhsOOPathBind bind && bind.getLhsOOPSegmentList().get(0) == segment) {
+      return containsClass(DroolsResolveUtil.getPatternOOPathBindType(Collections.singletonList(segment)), qualifiedName);
+    }
+    return false;
+  }
+
+  private static boolean containsClass(@NotNull Set<PsiClass> classes, @NotNull String qualifiedName) {
+    for (PsiClass psiClass : classes) {
+      if (psiClass != null && qualifiedName.equals(psiClass.getQualifiedName())) return true;
+    }
+    return false;
+  }
+}
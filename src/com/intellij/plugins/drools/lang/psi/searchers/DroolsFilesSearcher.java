@@ -30,22 +30,19 @@ public final class DroolsFilesSearcher extends QueryExecutorBase<PsiReference, R
       String lightClassName = lightClass.getName();
       if (lightClassName != null) {
         parameters.getOptimizer()
-          .searchWord(lightClassName, parameters.getEffectiveSearchScope(), UsageSearchContext.ANY, false, lightClass.getDelegate());
+          .searchWord(lightClassName, parameters.getEffectiveSearchScope(), UsageSearchContext.IN_CODE, true, lightClass.getDelegate());
       }
     }
     if (search instanceof DroolsVariable) {
       String name = ((DroolsVariable)search).getName();
       if (!StringUtil.isEmptyOrSpaces(name)) {
-        if (name.startsWith("$") && name.length() > 1) {
-          parameters.getOptimizer()
-            .searchWord(name.substring(1), parameters.getEffectiveSearchScope(), UsageSearchContext.ANY, false, search);
-        }
+        parameters.getOptimizer().searchWord(name, parameters.getEffectiveSearchScope(), UsageSearchContext.IN_CODE, true, search);
       }
     }
     else if (search instanceof PsiLocalVariable) {
       final String name = ((PsiLocalVariable)search).getName();
       if (!StringUtil.isEmptyOrSpaces(name)) {
-        parameters.getOptimizer().searchWord(name, parameters.getEffectiveSearchScope(), UsageSearchContext.ANY, false, search);
+        parameters.getOptimizer().searchWord(name, parameters.getEffectiveSearchScope(), UsageSearchContext.IN_CODE, true, search);
       }
     }
     else if (search instanceof BeanPropertyElement) {
@@ -61,15 +58,15 @@ public final class DroolsFilesSearcher extends QueryExecutorBase<PsiReference, R
       final String propertyName = search.getName();
       final PsiMethod method = search.getMethod();
 
-      parameters.getOptimizer().searchWord(propertyName, parameters.getEffectiveSearchScope(), UsageSearchContext.ANY, false, method,
+      parameters.getOptimizer().searchWord(propertyName, parameters.getEffectiveSearchScope(), UsageSearchContext.IN_CODE, true, method,
                                            new DroolsBeanPropertyResultProcessor(search));
-      parameters.getOptimizer().searchWord(method.getName(), parameters.getEffectiveSearchScope(), UsageSearchContext.ANY, false, method);
+      parameters.getOptimizer().searchWord(method.getName(), parameters.getEffectiveSearchScope(), UsageSearchContext.IN_CODE, true, method);
     }
   }
 
   private static void searchFunction(ReferencesSearch.SearchParameters parameters, DroolsFunctionStatement search) {
     final String name = search.getName();
-    parameters.getOptimizer().searchWord(name, parameters.getEffectiveSearchScope(), UsageSearchContext.ANY, false,
+    parameters.getOptimizer().searchWord(name, parameters.getEffectiveSearchScope(), UsageSearchContext.IN_CODE, true,
                                          DroolsFunctionsProcessor.createLightMethodBuilder(search));
   }
 
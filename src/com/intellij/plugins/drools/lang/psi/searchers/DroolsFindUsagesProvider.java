@@ -1,6 +1,7 @@
 // Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.intellij.plugins.drools.lang.psi.searchers;
 
+import com.intellij.lang.cacheBuilder.WordsScanner;
 import com.intellij.lang.findUsages.FindUsagesProvider;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.*;
@@ -9,6 +10,11 @@ import org.jetbrains.annotations.NotNull;
 
 public final class DroolsFindUsagesProvider implements FindUsagesProvider {
 
+  @Override
+  public @NotNull WordsScanner getWordsScanner() {
+    return new DroolsWordsScanner();
+  }
+
   @Override
   public boolean canFindUsagesFor(@NotNull PsiElement psiElement) {
     return psiElement instanceof PsiNamedElement;
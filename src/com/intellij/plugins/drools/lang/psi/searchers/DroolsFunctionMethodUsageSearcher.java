@@ -27,7 +27,7 @@ public final class DroolsFunctionMethodUsageSearcher extends QueryExecutorBase<P
       if (scope instanceof GlobalSearchScope) {
         scope = GlobalSearchScope.getScopeRestrictedByFileTypes((GlobalSearchScope)scope, DroolsFileType.DROOLS_FILE_TYPE);
       }
-      queryParameters.getOptimizer().searchWord(method.getName(), scope, UsageSearchContext.ANY, true, method);
+      queryParameters.getOptimizer().searchWord(method.getName(), scope, UsageSearchContext.IN_CODE, true, method);
     }
   }
 }
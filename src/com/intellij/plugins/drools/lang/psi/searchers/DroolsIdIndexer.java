@@ -0,0 +1,13 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.searchers;
+
+import com.intellij.lang.cacheBuilder.WordsScanner;
+import com.intellij.psi.impl.cache.impl.id.ScanningIdIndexer;
+import org.jetbrains.annotations.NotNull;
+
+public final class DroolsIdIndexer extends ScanningIdIndexer {
+  @Override
+  protected @NotNull WordsScanner createScanner() {
+    return new DroolsWordsScanner();
+  }
+}
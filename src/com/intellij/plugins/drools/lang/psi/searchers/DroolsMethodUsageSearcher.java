@@ -2,18 +2,30 @@
 package com.intellij.plugins.drools.lang.psi.searchers;
 
 import com.intellij.openapi.application.QueryExecutorBase;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.plugins.drools.DroolsFileType;
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsBeanPropertyIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclaredSuperTypeIndex;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.beanProperties.BeanPropertyElement;
 import com.intellij.psi.impl.light.LightVariableBuilder;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiShortNamesCache;
 import com.intellij.psi.search.RequestResultProcessor;
 import com.intellij.psi.search.SearchScope;
 import com.intellij.psi.search.UsageSearchContext;
 import com.intellij.psi.search.searches.MethodReferencesSearch;
+import com.intellij.psi.stubs.StubIndex;
 import com.intellij.psi.util.PropertyUtilBase;
 import com.intellij.util.Processor;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
 
 public final class DroolsMethodUsageSearcher extends QueryExecutorBase<PsiReference, MethodReferencesSearch.SearchParameters> {
 
@@ -30,12 +42,79 @@ public final class DroolsMethodUsageSearcher extends QueryExecutorBase<PsiRefere
 
     if (!PropertyUtilBase.isSimplePropertyAccessor(method)) return;
 
+    final String propName = PropertyUtilBase.getPropertyNameByGetter(method);
     SearchScope scope = queryParameters.getEffectiveSearchScope();
     if (scope instanceof GlobalSearchScope) {
-      scope = GlobalSearchScope.getScopeRestrictedByFileTypes((GlobalSearchScope)scope, DroolsFileType.DROOLS_FILE_TYPE);
+      final GlobalSearchScope droolsScope =
+        GlobalSearchScope.getScopeRestrictedByFileTypes((GlobalSearchScope)scope, DroolsFileType.DROOLS_FILE_TYPE);
+      final Map<VirtualFile, List<String>> usages = DroolsBeanPropertyIndex.getPropertyUsages(propName, droolsScope);
+      if (usages.isEmpty()) return;
+
+      final Set<String> typeNames = getCompatibleTypeNames(psiClass, usages);
+      final Set<VirtualFile> files = typeNames == null ? usages.keySet() : DroolsBeanPropertyIndex.getCandidateFiles(usages, typeNames);
+      if (files.isEmpty()) return;
+      scope = GlobalSearchScope.filesScope(psiClass.getProject(), files);
     }
-    final String propName = PropertyUtilBase.getPropertyNameByGetter(method);
-    queryParameters.getOptimizer().searchWord(propName, scope, UsageSearchContext.ANY, true, method, new MethodRequestResultProcessor(method));
+    queryParameters.getOptimizer().searchWord(propName, scope, UsageSearchContext.IN_CODE, true, method, new MethodRequestResultProcessor(method));
+  }
+
+  /**
+   * Short names of the types the property is used on in {@code usages} that are the class, one of its Java inheritors
+   * (including libraries) or a DRL type declared to extend it. {@code null} for {@code Object}, whose properties any type has.
+   */
+  private static @Nullable Set<String> getCompatibleTypeNames(@NotNull PsiClass psiClass, @NotNull Map<VirtualFile, List<String>> usages) {
+    if (CommonClassNames.JAVA_LANG_OBJECT.equals(psiClass.getQualifiedName())) return null;
+
+    final Set<String> usedTypeNames = new HashSet<>();
+    usages.values().forEach(usedTypeNames::addAll);
+    usedTypeNames.remove(DroolsBeanPropertyIndex.UNKNOWN_TYPE);
+
+    final Project project = psiClass.getProject();
+    final GlobalSearchScope allScope = GlobalSearchScope.allScope(project);
+    final PsiShortNamesCache shortNamesCache = PsiShortNamesCache.getInstance(project);
+    final Set<String> names = new HashSet<>();
+    ContainerUtil.addIfNotNull(names, psiClass.getName());
+    names.addAll(getDeclaredSubtypeNames(names, project, allScope));
+    for (String typeName : usedTypeNames) {
+      if (names.contains(typeName)) continue;
+      for (PsiClass usedClass : shortNamesCache.getClassesByName(typeName, allScope)) {
+        if (usedClass.isInheritor(psiClass, true) || extendsClass(usedClass, psiClass)) {
+          names.add(typeName);
+          break;
+        }
+      }
+    }
+    names.retainAll(usedTypeNames);
+    return names;
+  }
+
+  /**
+   * Short names of the DRL types declared to extend one of {@code superTypeNames}, directly or through other declared types.
+   */
+  private static @NotNull Set<String> getDeclaredSubtypeNames(@NotNull Set<String> superTypeNames,
+                                                              @NotNull Project project,
+                                                              @NotNull GlobalSearchScope scope) {
+    final Set<String> subtypeNames = new HashSet<>();
+    final Deque<String> queue = new ArrayDeque<>(superTypeNames);
+    while (!queue.isEmpty()) {
+      for (DroolsPsiClass subtype : StubIndex.getElements(DroolsDeclaredSuperTypeIndex.KEY, queue.poll(), project, scope, DroolsPsiClass.class)) {
+        final String name = StringUtil.getShortName(StringUtil.notNullize(subtype.getName()));
+        if (!name.isEmpty() && !superTypeNames.contains(name) && subtypeNames.add(name)) queue.add(name);
+      }
+    }
+    return subtypeNames;
+  }
+
+  /**
+   * {@link PsiClass#isInheritor} of declared types only knows traits, so their super classes are walked here.
+   */
+  private static boolean extendsClass(@NotNull PsiClass declaredType, @NotNull PsiClass psiClass) {
+    final String qualifiedName = psiClass.getQualifiedName();
+    final Set<PsiClass> visited = new HashSet<>();
+    for (PsiClass superClass = declaredType.getSuperClass(); superClass != null && visited.add(superClass); superClass = superClass.getSuperClass()) {
+      if (Objects.equals(qualifiedName, superClass.getQualifiedName()) || superClass.isInheritor(psiClass, true)) return true;
+    }
+    return false;
   }
 
   private static class MethodRequestResultProcessor extends RequestResultProcessor {
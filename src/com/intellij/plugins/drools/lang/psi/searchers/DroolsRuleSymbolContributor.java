@@ -0,0 +1,49 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.searchers;
+
+import com.intellij.navigation.ChooseByNameContributorEx;
+import com.intellij.navigation.NavigationItem;
+import com.intellij.plugins.drools.lang.psi.DroolsRuleStatement;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsIndexUtil;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsRuleNameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.FindSymbolParameters;
+import com.intellij.util.indexing.IdFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Makes rules visible to Go to Symbol by their unquoted names, in every package, see {@link DroolsRuleNameIndex}.
+ */
+public final class DroolsRuleSymbolContributor implements ChooseByNameContributorEx {
+  @Override
+  public void processNames(@NotNull Processor<? super String> processor, @NotNull GlobalSearchScope scope, @Nullable IdFilter filter) {
+    StubIndex.getInstance().processAllKeys(DroolsRuleNameIndex.KEY, key -> processor.process(DroolsIndexUtil.getMemberName(key)),
+                                           scope, filter);
+  }
+
+  @Override
+  public void processElementsWithName(@NotNull String name,
+                                      @NotNull Processor<? super NavigationItem> processor,
+                                      @NotNull FindSymbolParameters parameters) {
+    final GlobalSearchScope scope = parameters.getSearchScope();
+    final IdFilter filter = parameters.getIdFilter();
+    final List<String> keys = new ArrayList<>();
+    StubIndex.getInstance().processAllKeys(DroolsRuleNameIndex.KEY, key -> {
+      if (name.equals(DroolsIndexUtil.getMemberName(key))) keys.add(key);
+      return true;
+    }, scope, filter);
+
+    for (String key : keys) {
+      if (!StubIndex.getInstance().processElements(DroolsRuleNameIndex.KEY, key, parameters.getProject(), scope, filter,
+                                                   DroolsRuleStatement.class, processor::process)) {
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.searchers;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclaredTypeShortNameIndex;
+import com.intellij.plugins.drools.lang.psi.util.DroolsLightClass;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiShortNamesCache;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.util.ArrayUtilRt;
+import com.intellij.util.Processor;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.IdFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Makes types declared in DRL files visible to Goto Class, class name completion and auto-import.
+ * Types are returned as the same {@link DroolsLightClass} wrappers as {@link DroolsClassFinder} returns.
+ */
+public final class DroolsShortNamesCache extends PsiShortNamesCache {
+  private final Project myProject;
+
+  public DroolsShortNamesCache(@NotNull Project project) {
+    myProject = project;
+  }
+
+  @Override
+  public PsiClass @NotNull [] getClassesByName(@NotNull String name, @NotNull GlobalSearchScope scope) {
+    Collection<DroolsPsiClass> classes =
+      StubIndex.getElements(DroolsDeclaredTypeShortNameIndex.KEY, name, myProject, scope, DroolsPsiClass.class);
+    return classes.isEmpty() ? PsiClass.EMPTY_ARRAY : ContainerUtil.map2Array(classes, PsiClass.EMPTY_ARRAY, DroolsLightClass::getInstance);
+  }
+
+  @Override
+  public boolean processClassesWithName(@NotNull String name,
+                                        @NotNull Processor<? super PsiClass> processor,
+                                        @NotNull GlobalSearchScope scope,
+                                        @Nullable IdFilter filter) {
+    return StubIndex.getInstance().processElements(DroolsDeclaredTypeShortNameIndex.KEY, name, myProject, scope, filter,
+                                                   DroolsPsiClass.class,
+                                                   psiClass -> processor.process(DroolsLightClass.getInstance(psiClass)));
+  }
+
+  @Override
+  public String @NotNull [] getAllClassNames() {
+    return ArrayUtilRt.toStringArray(StubIndex.getInstance().getAllKeys(DroolsDeclaredTypeShortNameIndex.KEY, myProject));
+  }
+
+  @Override
+  public boolean processAllClassNames(@NotNull Processor<? super String> processor) {
+    return StubIndex.getInstance().processAllKeys(DroolsDeclaredTypeShortNameIndex.KEY, myProject, processor);
+  }
+
+  @Override
+  public boolean processAllClassNames(@NotNull Processor<? super String> processor,
+                                      @NotNull GlobalSearchScope scope,
+                                      @Nullable IdFilter filter) {
+    return StubIndex.getInstance().processAllKeys(DroolsDeclaredTypeShortNameIndex.KEY, processor, scope, filter);
+  }
+
+  @Override
+  public PsiMethod @NotNull [] getMethodsByName(@NotNull String name, @NotNull GlobalSearchScope scope) {
+    return PsiMethod.EMPTY_ARRAY;
+  }
+
+  @Override
+  public PsiMethod @NotNull [] getMethodsByNameIfNotMoreThan(@NotNull String name, @NotNull GlobalSearchScope scope, int maxCount) {
+    return PsiMethod.EMPTY_ARRAY;
+  }
+
+  @Override
+  public PsiField @NotNull [] getFieldsByNameIfNotMoreThan(@NotNull String name, @NotNull GlobalSearchScope scope, int maxCount) {
+    return PsiField.EMPTY_ARRAY;
+  }
+
+  @Override
+  public boolean processMethodsWithName(@NotNull String name,
+                                        @NotNull GlobalSearchScope scope,
+                                        @NotNull Processor<? super PsiMethod> processor) {
+    return true;
+  }
+
+  @Override
+  public String @NotNull [] getAllMethodNames() {
+    return ArrayUtilRt.EMPTY_STRING_ARRAY;
+  }
+
+  @Override
+  public PsiField @NotNull [] getFieldsByName(@NotNull String name, @NotNull GlobalSearchScope scope) {
+    return PsiField.EMPTY_ARRAY;
+  }
+
+  @Override
+  public String @NotNull [] getAllFieldNames() {
+    return ArrayUtilRt.EMPTY_STRING_ARRAY;
+  }
+}
@@ -0,0 +1,106 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.searchers;
+
+import com.intellij.lang.cacheBuilder.VersionedWordsScanner;
+import com.intellij.lang.cacheBuilder.WordOccurrence;
+import com.intellij.lang.java.lexer.JavaLexer;
+import com.intellij.lexer.Lexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsLexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypeSets;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.JavaTokenType;
+import com.intellij.psi.impl.source.tree.JavaDocElementType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.util.Processor;
+import org.jetbrains.annotations.NotNull;
+
+import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
+
+/**
+ * Words of DRL files by {@link DroolsLexer} token class. Identifiers are reported whole, so {@code $}-prefixed binds are
+ * found by their own name, and words in strings and comments get their own search contexts. Java chunks (consequences,
+ * function bodies, accumulate actions) are scanned with the Java lexer.
+ */
+public final class DroolsWordsScanner extends VersionedWordsScanner {
+  private static final TokenSet LITERALS = TokenSet.create(STRING_TOKEN, CHARACTER_LITERAL);
+  private static final TokenSet JAVA_CHUNKS = TokenSet.create(JAVA_STATEMENT, BLOCK_EXPRESSION, CHUNK_BLOCK);
+
+  private static final TokenSet JAVA_COMMENTS =
+    TokenSet.create(JavaTokenType.C_STYLE_COMMENT, JavaTokenType.END_OF_LINE_COMMENT, JavaDocElementType.DOC_COMMENT);
+  private static final TokenSet JAVA_LITERALS =
+    TokenSet.create(JavaTokenType.STRING_LITERAL, JavaTokenType.TEXT_BLOCK_LITERAL, JavaTokenType.CHARACTER_LITERAL);
+
+  @Override
+  public void processWords(@NotNull CharSequence fileText, @NotNull Processor<? super WordOccurrence> processor) {
+    Lexer lexer = new DroolsLexer();
+    lexer.start(fileText);
+    Lexer javaLexer = null;
+    for (IElementType tokenType = lexer.getTokenType(); tokenType != null; lexer.advance(), tokenType = lexer.getTokenType()) {
+      int start = lexer.getTokenStart();
+      int end = lexer.getTokenEnd();
+      boolean proceed = true;
+      if (tokenType == JAVA_IDENTIFIER) {
+        proceed = processor.process(new WordOccurrence(fileText, start, end, WordOccurrence.Kind.CODE));
+      }
+      else if (tokenType == STRING_IDENTIFIER) {
+        proceed = processWordsIn(fileText, start, end, WordOccurrence.Kind.CODE, processor);
+      }
+      else if (DroolsTokenTypeSets.COMMENTS.contains(tokenType)) {
+        proceed = processWordsIn(fileText, start, end, WordOccurrence.Kind.COMMENTS, processor);
+      }
+      else if (LITERALS.contains(tokenType)) {
+        proceed = processWordsIn(fileText, start, end, WordOccurrence.Kind.LITERALS, processor);
+      }
+      else if (JAVA_CHUNKS.contains(tokenType)) {
+        if (javaLexer == null) javaLexer = new JavaLexer(LanguageLevel.HIGHEST);
+        proceed = processJavaWords(javaLexer, fileText, start, end, processor);
+      }
+      if (!proceed) return;
+    }
+  }
+
+  @Override
+  public int getVersion() {
+    return 1;
+  }
+
+  private static boolean processJavaWords(@NotNull Lexer javaLexer,
+                                          @NotNull CharSequence fileText,
+                                          int start,
+                                          int end,
+                                          @NotNull Processor<? super WordOccurrence> processor) {
+    javaLexer.start(fileText, start, end);
+    for (IElementType tokenType = javaLexer.getTokenType(); tokenType != null; javaLexer.advance(), tokenType = javaLexer.getTokenType()) {
+      int tokenStart = javaLexer.getTokenStart();
+      int tokenEnd = javaLexer.getTokenEnd();
+      boolean proceed = true;
+      if (tokenType == JavaTokenType.IDENTIFIER) {
+        proceed = processor.process(new WordOccurrence(fileText, tokenStart, tokenEnd, WordOccurrence.Kind.CODE));
+      }
+      else if (JAVA_COMMENTS.contains(tokenType)) {
+        proceed = processWordsIn(fileText, tokenStart, tokenEnd, WordOccurrence.Kind.COMMENTS, processor);
+      }
+      else if (JAVA_LITERALS.contains(tokenType)) {
+        proceed = processWordsIn(fileText, tokenStart, tokenEnd, WordOccurrence.Kind.LITERALS, processor);
+      }
+      if (!proceed) return false;
+    }
+    return true;
+  }
+
+  private static boolean processWordsIn(@NotNull CharSequence text,
+                                        int start,
+                                        int end,
+                                        @NotNull WordOccurrence.Kind kind,
+                                        @NotNull Processor<? super WordOccurrence> processor) {
+    int i = start;
+    while (i < end) {
+      while (i < end && !Character.isJavaIdentifierPart(text.charAt(i))) i++;
+      int wordStart = i;
+      while (i < end && Character.isJavaIdentifierPart(text.charAt(i))) i++;
+      if (i > wordStart && !processor.process(new WordOccurrence(text, wordStart, i, kind))) return false;
+    }
+    return true;
+  }
+}
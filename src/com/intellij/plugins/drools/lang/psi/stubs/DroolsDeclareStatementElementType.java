@@ -0,0 +1,47 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.plugins.drools.lang.psi.DroolsDeclareStatement;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsDeclareStatementImpl;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsDeclareStatementElementType extends DroolsReparseableStubElementType<DroolsDeclareStatementStub, DroolsDeclareStatement> {
+  public DroolsDeclareStatementElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  protected @NotNull IElementType getStartToken() {
+    return DroolsTokenTypes.DECLARE;
+  }
+
+  @Override
+  protected @NotNull IElementType getEndToken() {
+    return DroolsTokenTypes.END;
+  }
+
+  @Override
+  public @NotNull DroolsDeclareStatement createPsi(@NotNull DroolsDeclareStatementStub stub) {
+    return new DroolsDeclareStatementImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsDeclareStatementStub createStub(@NotNull DroolsDeclareStatement psi, StubElement<?> parentStub) {
+    return new DroolsDeclareStatementStub(parentStub, this);
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsDeclareStatementStub stub, @NotNull StubOutputStream dataStream) {
+  }
+
+  @Override
+  public @NotNull DroolsDeclareStatementStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) {
+    return new DroolsDeclareStatementStub(parentStub, this);
+  }
+}
@@ -0,0 +1,59 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.plugins.drools.lang.psi.DroolsFunctionStatement;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsFunctionStatementImpl;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsFunctionNameIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsIndexUtil;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class DroolsFunctionStatementElementType extends DroolsReparseableStubElementType<DroolsFunctionStatementStub, DroolsFunctionStatement> {
+  public DroolsFunctionStatementElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  protected @NotNull IElementType getStartToken() {
+    return DroolsTokenTypes.FUNCTION;
+  }
+
+  @Override
+  protected @NotNull IElementType getEndToken() {
+    return DroolsTokenTypes.BLOCK_EXPRESSION;
+  }
+
+  @Override
+  public @NotNull DroolsFunctionStatement createPsi(@NotNull DroolsFunctionStatementStub stub) {
+    return new DroolsFunctionStatementImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsFunctionStatementStub createStub(@NotNull DroolsFunctionStatement psi, StubElement<?> parentStub) {
+    return new DroolsFunctionStatementStub(parentStub, this, psi.getName());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsFunctionStatementStub stub, @NotNull IndexSink sink) {
+    sink.occurrence(DroolsFunctionNameIndex.KEY, DroolsIndexUtil.getPackageMemberKey(getPackageName(stub), stub.getName()));
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsFunctionStatementStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getName());
+  }
+
+  @Override
+  public @NotNull DroolsFunctionStatementStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    return new DroolsFunctionStatementStub(parentStub, this, StringUtil.notNullize(dataStream.readNameString()));
+  }
+}
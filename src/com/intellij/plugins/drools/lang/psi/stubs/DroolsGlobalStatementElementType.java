@@ -0,0 +1,50 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.lang.psi.DroolsGlobalStatement;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsGlobalStatementImpl;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsGlobalNameIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsIndexUtil;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class DroolsGlobalStatementElementType extends DroolsStubElementType<DroolsGlobalStatementStub, DroolsGlobalStatement> {
+  public DroolsGlobalStatementElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  public @NotNull DroolsGlobalStatement createPsi(@NotNull DroolsGlobalStatementStub stub) {
+    return new DroolsGlobalStatementImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsGlobalStatementStub createStub(@NotNull DroolsGlobalStatement psi, StubElement<?> parentStub) {
+    return new DroolsGlobalStatementStub(parentStub, this, psi.getNameId().getText(), psi.getVarType().getText());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsGlobalStatementStub stub, @NotNull IndexSink sink) {
+    sink.occurrence(DroolsGlobalNameIndex.KEY, DroolsIndexUtil.getPackageMemberKey(getPackageName(stub), stub.getName()));
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsGlobalStatementStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getName());
+    dataStream.writeName(stub.getTypeText());
+  }
+
+  @Override
+  public @NotNull DroolsGlobalStatementStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String name = StringUtil.notNullize(dataStream.readNameString());
+    String typeText = StringUtil.notNullize(dataStream.readNameString());
+    return new DroolsGlobalStatementStub(parentStub, this, name, typeText);
+  }
+}
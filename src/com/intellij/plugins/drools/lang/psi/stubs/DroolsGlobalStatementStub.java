@@ -0,0 +1,31 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.plugins.drools.lang.psi.DroolsGlobalStatement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class DroolsGlobalStatementStub extends StubBase<DroolsGlobalStatement> {
+  private final String myName;
+  private final String myTypeText;
+
+  public DroolsGlobalStatementStub(@Nullable StubElement<?> parent,
+                                   @NotNull IStubElementType<?, ?> elementType,
+                                   @NotNull String name,
+                                   @NotNull String typeText) {
+    super(parent, elementType);
+    myName = name;
+    myTypeText = typeText;
+  }
+
+  public @NotNull String getName() {
+    return myName;
+  }
+
+  public @NotNull String getTypeText() {
+    return myTypeText;
+  }
+}
@@ -0,0 +1,46 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.lang.psi.DroolsImportStatement;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsImportStatementImpl;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class DroolsImportStatementElementType extends DroolsStubElementType<DroolsImportStatementStub, DroolsImportStatement> {
+  private static final int FUNCTION_MASK = 0x1;
+  private static final int STATIC_MASK = 0x2;
+
+  public DroolsImportStatementElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  public @NotNull DroolsImportStatement createPsi(@NotNull DroolsImportStatementStub stub) {
+    return new DroolsImportStatementImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsImportStatementStub createStub(@NotNull DroolsImportStatement psi, StubElement<?> parentStub) {
+    return new DroolsImportStatementStub(parentStub, this, psi.getImportQualifier().getText(), psi.isFunction(), psi.isStatic());
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsImportStatementStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getQualifier());
+    int flags = (stub.isFunction() ? FUNCTION_MASK : 0) | (stub.isStatic() ? STATIC_MASK : 0);
+    dataStream.writeByte(flags);
+  }
+
+  @Override
+  public @NotNull DroolsImportStatementStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String qualifier = StringUtil.notNullize(dataStream.readNameString());
+    int flags = dataStream.readByte();
+    return new DroolsImportStatementStub(parentStub, this, qualifier, (flags & FUNCTION_MASK) != 0, (flags & STATIC_MASK) != 0);
+  }
+}
@@ -0,0 +1,41 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.plugins.drools.lang.psi.DroolsImportStatement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class DroolsImportStatementStub extends StubBase<DroolsImportStatement> {
+  private final String myQualifier;
+  private final boolean myFunction;
+  private final boolean myStatic;
+
+  public DroolsImportStatementStub(@Nullable StubElement<?> parent,
+                                   @NotNull IStubElementType<?, ?> elementType,
+                                   @NotNull String qualifier,
+                                   boolean isFunction,
+                                   boolean isStatic) {
+    super(parent, elementType);
+    myQualifier = qualifier;
+    myFunction = isFunction;
+    myStatic = isStatic;
+  }
+
+  /**
+   * @return import qualifier text, including the trailing {@code .*} for on-demand imports
+   */
+  public @NotNull String getQualifier() {
+    return myQualifier;
+  }
+
+  public boolean isFunction() {
+    return myFunction;
+  }
+
+  public boolean isStatic() {
+    return myStatic;
+  }
+}
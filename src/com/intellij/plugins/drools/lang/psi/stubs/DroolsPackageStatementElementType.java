@@ -0,0 +1,39 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.lang.psi.DroolsPackageStatement;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsPackageStatementImpl;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class DroolsPackageStatementElementType extends DroolsStubElementType<DroolsPackageStatementStub, DroolsPackageStatement> {
+  public DroolsPackageStatementElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  public @NotNull DroolsPackageStatement createPsi(@NotNull DroolsPackageStatementStub stub) {
+    return new DroolsPackageStatementImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsPackageStatementStub createStub(@NotNull DroolsPackageStatement psi, StubElement<?> parentStub) {
+    return new DroolsPackageStatementStub(parentStub, this, psi.getNamespace().getText());
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsPackageStatementStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getNamespace());
+  }
+
+  @Override
+  public @NotNull DroolsPackageStatementStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    return new DroolsPackageStatementStub(parentStub, this, StringUtil.notNullize(dataStream.readNameString()));
+  }
+}
@@ -0,0 +1,22 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.plugins.drools.lang.psi.DroolsPackageStatement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class DroolsPackageStatementStub extends StubBase<DroolsPackageStatement> {
+  private final String myNamespace;
+
+  public DroolsPackageStatementStub(@Nullable StubElement<?> parent, @NotNull IStubElementType<?, ?> elementType, @NotNull String namespace) {
+    super(parent, elementType);
+    myNamespace = namespace;
+  }
+
+  public @NotNull String getNamespace() {
+    return myNamespace;
+  }
+}
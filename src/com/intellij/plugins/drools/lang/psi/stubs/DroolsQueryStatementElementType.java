@@ -0,0 +1,59 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.plugins.drools.lang.psi.DroolsQueryStatement;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsQueryStatementImpl;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsQueryNameIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsIndexUtil;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class DroolsQueryStatementElementType extends DroolsReparseableStubElementType<DroolsQueryStatementStub, DroolsQueryStatement> {
+  public DroolsQueryStatementElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  protected @NotNull IElementType getStartToken() {
+    return DroolsTokenTypes.QUERY;
+  }
+
+  @Override
+  protected @NotNull IElementType getEndToken() {
+    return DroolsTokenTypes.END;
+  }
+
+  @Override
+  public @NotNull DroolsQueryStatement createPsi(@NotNull DroolsQueryStatementStub stub) {
+    return new DroolsQueryStatementImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsQueryStatementStub createStub(@NotNull DroolsQueryStatement psi, StubElement<?> parentStub) {
+    return new DroolsQueryStatementStub(parentStub, this, psi.getName());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsQueryStatementStub stub, @NotNull IndexSink sink) {
+    sink.occurrence(DroolsQueryNameIndex.KEY, DroolsIndexUtil.getPackageMemberKey(getPackageName(stub), stub.getName()));
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsQueryStatementStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getName());
+  }
+
+  @Override
+  public @NotNull DroolsQueryStatementStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    return new DroolsQueryStatementStub(parentStub, this, StringUtil.notNullize(dataStream.readNameString()));
+  }
+}
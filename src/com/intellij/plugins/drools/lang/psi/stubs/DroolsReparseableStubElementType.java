@@ -0,0 +1,123 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.lang.*;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.DroolsLanguage;
+import com.intellij.plugins.drools.lang.lexer.DroolsLexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypeSets;
+import com.intellij.plugins.drools.lang.parser.DroolsParser;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.impl.source.tree.SharedImplUtil;
+import com.intellij.psi.impl.source.tree.TreeElement;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.tree.ICustomParsingType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IFileElementType;
+import com.intellij.psi.tree.IReparseableElementTypeBase;
+import com.intellij.util.CharTable;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes.*;
+
+/**
+ * Top-level statement that the incremental reparser may reparse on its own instead of the whole file: the edited text
+ * must still lex as exactly one statement, from its keyword to its closing token, with balanced brackets, and parse
+ * back into exactly one statement of the same type covering the whole text.
+ */
+public abstract class DroolsReparseableStubElementType<S extends StubElement<P>, P extends PsiElement>
+  extends DroolsStubElementType<S, P> implements ICustomParsingType, IReparseableElementTypeBase {
+  /**
+   * Statement parsed by {@link #isParsable} and handed out by the {@link #parse} call the reparser makes next for the same text.
+   */
+  private final ThreadLocal<Pair<CharSequence, ASTNode>> myParsedStatement = new ThreadLocal<>();
+
+  protected DroolsReparseableStubElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  /**
+   * Token types are resolved lazily: element types are created while {@code DroolsTokenTypes} is being initialized.
+   */
+  protected abstract @NotNull IElementType getStartToken();
+
+  protected abstract @NotNull IElementType getEndToken();
+
+  @Override
+  public boolean isParsable(@Nullable ASTNode parent, @NotNull CharSequence buffer, @NotNull Language fileLanguage, @NotNull Project project) {
+    myParsedStatement.remove();
+    if (parent == null || !(parent.getElementType() instanceof IFileElementType) || !isSingleStatement(buffer)) return false;
+
+    final ASTNode statement = parseStatement(buffer);
+    if (statement == null) return false;
+    myParsedStatement.set(Pair.create(buffer, statement));
+    return true;
+  }
+
+  private boolean isSingleStatement(@NotNull CharSequence buffer) {
+    final Lexer lexer = new DroolsLexer();
+    lexer.start(buffer);
+    if (lexer.getTokenType() != getStartToken()) return false;
+
+    int parens = 0;
+    int brackets = 0;
+    boolean closed = false;
+    for (lexer.advance(); lexer.getTokenType() != null; lexer.advance()) {
+      final IElementType tokenType = lexer.getTokenType();
+      if (closed || DroolsTokenTypeSets.TOP_LEVEL_STATEMENT_KEYWORDS.contains(tokenType)) return false;
+
+      if (tokenType == LPAREN) parens++;
+      else if (tokenType == RPAREN && --parens < 0) return false;
+      else if (tokenType == LBRACKET) brackets++;
+      else if (tokenType == RBRACKET && --brackets < 0) return false;
+      else if (tokenType == getEndToken()) closed = true;
+      else if (tokenType == END || tokenType == BLOCK_EXPRESSION) return false;
+    }
+    return closed && parens == 0 && brackets == 0;
+  }
+
+  @Override
+  public @NotNull ASTNode parse(@NotNull CharSequence text, @NotNull CharTable table) {
+    final Pair<CharSequence, ASTNode> parsed = myParsedStatement.get();
+    myParsedStatement.remove();
+    final ASTNode statement = parsed != null && StringUtil.equals(parsed.first, text) ? parsed.second : parseStatement(text);
+    if (statement == null) throw new IllegalArgumentException("Not a single " + this + " statement: " + text);
+
+    ((TreeElement)statement).rawRemove();
+    return statement;
+  }
+
+  /**
+   * @return {@code null} if error recovery ends the statement early, leaving siblings or nested statements behind
+   */
+  private @Nullable ASTNode parseStatement(@NotNull CharSequence text) {
+    final ParserDefinition parserDefinition = LanguageParserDefinitions.INSTANCE.forLanguage(DroolsLanguage.INSTANCE);
+    final PsiBuilder builder = PsiBuilderFactory.getInstance().createBuilder(parserDefinition, new DroolsLexer(), text);
+    final ASTNode root = new DroolsParser().parse(this, builder);
+    final ASTNode statement = root.getFirstChildNode();
+    if (statement == null || statement != root.getLastChildNode() ||
+        statement.getElementType() != this || statement.getTextLength() != text.length()) {
+      return null;
+    }
+    return containsStatement(statement) ? null : statement;
+  }
+
+  private boolean containsStatement(@NotNull ASTNode node) {
+    for (ASTNode child = node.getFirstChildNode(); child != null; child = child.getTreeNext()) {
+      if (child instanceof LazyParseableElement) continue;
+      if (child.getElementType() == this || containsStatement(child)) return true;
+    }
+    return false;
+  }
+
+  @Override
+  public ASTNode parseContents(@NotNull ASTNode chameleon) {
+    return parse(chameleon.getChars(), SharedImplUtil.findCharTableByTree(chameleon)).getFirstChildNode();
+  }
+}
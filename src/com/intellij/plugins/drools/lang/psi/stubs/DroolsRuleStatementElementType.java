@@ -0,0 +1,60 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.plugins.drools.lang.psi.DroolsRuleStatement;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsRuleStatementImpl;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsRuleNameIndex;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class DroolsRuleStatementElementType extends DroolsReparseableStubElementType<DroolsRuleStatementStub, DroolsRuleStatement> {
+  public DroolsRuleStatementElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  protected @NotNull IElementType getStartToken() {
+    return DroolsTokenTypes.RULE;
+  }
+
+  @Override
+  protected @NotNull IElementType getEndToken() {
+    return DroolsTokenTypes.END;
+  }
+
+  @Override
+  public @NotNull DroolsRuleStatement createPsi(@NotNull DroolsRuleStatementStub stub) {
+    return new DroolsRuleStatementImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsRuleStatementStub createStub(@NotNull DroolsRuleStatement psi, StubElement<?> parentStub) {
+    return new DroolsRuleStatementStub(parentStub, this, psi.getRuleId(), psi.getParentRuleId());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsRuleStatementStub stub, @NotNull IndexSink sink) {
+    sink.occurrence(DroolsRuleNameIndex.KEY, DroolsRuleNameIndex.getIndexKey(getPackageName(stub), stub.getRuleId()));
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsRuleStatementStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getRuleId());
+    dataStream.writeName(stub.getParentRuleId());
+  }
+
+  @Override
+  public @NotNull DroolsRuleStatementStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String ruleId = dataStream.readNameString();
+    String parentRuleId = dataStream.readNameString();
+    return new DroolsRuleStatementStub(parentStub, this, ruleId == null ? "" : ruleId, parentRuleId);
+  }
+}
@@ -0,0 +1,31 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.plugins.drools.lang.psi.DroolsRuleStatement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class DroolsRuleStatementStub extends StubBase<DroolsRuleStatement> {
+  private final String myRuleId;
+  private final @Nullable String myParentRuleId;
+
+  public DroolsRuleStatementStub(@Nullable StubElement<?> parent,
+                                 @NotNull IStubElementType<?, ?> elementType,
+                                 @NotNull String ruleId,
+                                 @Nullable String parentRuleId) {
+    super(parent, elementType);
+    myRuleId = ruleId;
+    myParentRuleId = parentRuleId;
+  }
+
+  public @NotNull String getRuleId() {
+    return myRuleId;
+  }
+
+  public @Nullable String getParentRuleId() {
+    return myParentRuleId;
+  }
+}
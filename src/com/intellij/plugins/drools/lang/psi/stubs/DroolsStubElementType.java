@@ -0,0 +1,38 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.plugins.drools.DroolsLanguage;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+public abstract class DroolsStubElementType<S extends StubElement<P>, P extends PsiElement> extends IStubElementType<S, P> {
+  public static final String EXTERNAL_ID_PREFIX = "drools.";
+
+  protected DroolsStubElementType(@NotNull @NonNls String debugName) {
+    super(debugName, DroolsLanguage.INSTANCE);
+  }
+
+  @Override
+  public @NotNull String getExternalId() {
+    return EXTERNAL_ID_PREFIX + this;
+  }
+
+  @Override
+  public void indexStub(@NotNull S stub, @NotNull IndexSink sink) {
+  }
+
+  protected static @NotNull String getPackageName(@NotNull StubElement<?> stub) {
+    StubElement<?> fileStub = stub;
+    while (fileStub.getParentStub() != null) {
+      fileStub = fileStub.getParentStub();
+    }
+    for (StubElement<?> childStub : fileStub.getChildrenStubs()) {
+      if (childStub instanceof DroolsPackageStatementStub packageStub) return packageStub.getNamespace();
+    }
+    return "";
+  }
+}
@@ -0,0 +1,26 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+public final class DroolsStubElementTypes {
+  private DroolsStubElementTypes() {
+  }
+
+  public static @NotNull IElementType getStubElementType(@NotNull @NonNls String name) {
+    return switch (name) {
+      case "RULE_STATEMENT" -> new DroolsRuleStatementElementType(name);
+      case "DECLARE_STATEMENT" -> new DroolsDeclareStatementElementType(name);
+      case "TYPE_DECLARATION", "ENUM_DECLARATION" -> new DroolsTypeDeclarationElementType(name);
+      case "FUNCTION_STATEMENT" -> new DroolsFunctionStatementElementType(name);
+      case "QUERY_STATEMENT" -> new DroolsQueryStatementElementType(name);
+      case "GLOBAL_STATEMENT" -> new DroolsGlobalStatementElementType(name);
+      case "IMPORT_STATEMENT" -> new DroolsImportStatementElementType(name);
+      case "PACKAGE_STATEMENT" -> new DroolsPackageStatementElementType(name);
+      case "UNIT_STATEMENT" -> new DroolsUnitStatementElementType(name);
+      default -> throw new IllegalArgumentException("Unknown stub element type: " + name);
+    };
+  }
+}
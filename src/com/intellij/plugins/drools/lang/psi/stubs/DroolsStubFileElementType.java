@@ -0,0 +1,43 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.plugins.drools.DroolsLanguage;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.psi.StubBuilder;
+import com.intellij.psi.stubs.DefaultStubBuilder;
+import com.intellij.psi.stubs.PsiFileStub;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IStubFileElementType;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsStubFileElementType extends IStubFileElementType<PsiFileStub<DroolsFile>> {
+  private static final int STUB_VERSION = 6;
+
+  public DroolsStubFileElementType() {
+    super("DROOLS_FILE", DroolsLanguage.INSTANCE);
+  }
+
+  @Override
+  public int getStubVersion() {
+    return STUB_VERSION;
+  }
+
+  @Override
+  public @NotNull String getExternalId() {
+    return DroolsStubElementType.EXTERNAL_ID_PREFIX + "FILE";
+  }
+
+  @Override
+  public @NotNull StubBuilder getBuilder() {
+    return new DefaultStubBuilder() {
+      @Override
+      protected boolean skipChildProcessingWhenBuildingStubs(@NotNull ASTNode parent, @NotNull ASTNode node) {
+        // only declare statements contain stubbed children, don't expand rule and function bodies
+        IElementType parentType = parent.getElementType();
+        return parentType instanceof DroolsStubElementType && parentType != DroolsTokenTypes.DECLARE_STATEMENT;
+      }
+    };
+  }
+}
@@ -0,0 +1,67 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.plugins.drools.lang.psi.DroolsSuperType;
+import com.intellij.plugins.drools.lang.psi.DroolsTypeDeclaration;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsEnumDeclarationImpl;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsTypeDeclarationImpl;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclaredSuperTypeIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclaredTypeIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclaredTypeShortNameIndex;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class DroolsTypeDeclarationElementType extends DroolsStubElementType<DroolsTypeDeclarationStub, DroolsPsiClass> {
+  public DroolsTypeDeclarationElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  public @NotNull DroolsPsiClass createPsi(@NotNull DroolsTypeDeclarationStub stub) {
+    if (this == DroolsTokenTypes.ENUM_DECLARATION) {
+      return new DroolsEnumDeclarationImpl(stub, this);
+    }
+    return new DroolsTypeDeclarationImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsTypeDeclarationStub createStub(@NotNull DroolsPsiClass psi, StubElement<?> parentStub) {
+    DroolsSuperType superType = psi instanceof DroolsTypeDeclaration declaration ? declaration.getSuperType() : null;
+    String superTypeName = superType != null ? StringUtil.replace(superType.getText(), " ", "") : "";
+    return new DroolsTypeDeclarationStub(parentStub, this, StringUtil.notNullize(psi.getName()), superTypeName);
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsTypeDeclarationStub stub, @NotNull IndexSink sink) {
+    String typeName = stub.getTypeName();
+    if (!typeName.isEmpty()) {
+      sink.occurrence(DroolsDeclaredTypeIndex.KEY, DroolsDeclaredTypeIndex.getQualifiedName(getPackageName(stub), typeName));
+      sink.occurrence(DroolsDeclaredTypeShortNameIndex.KEY, StringUtil.getShortName(typeName));
+    }
+    String superTypeName = stub.getSuperTypeName();
+    if (!superTypeName.isEmpty()) {
+      sink.occurrence(DroolsDeclaredSuperTypeIndex.KEY, StringUtil.getShortName(superTypeName));
+    }
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsTypeDeclarationStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getTypeName());
+    dataStream.writeName(stub.getSuperTypeName());
+  }
+
+  @Override
+  public @NotNull DroolsTypeDeclarationStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String typeName = StringUtil.notNullize(dataStream.readNameString());
+    return new DroolsTypeDeclarationStub(parentStub, this, typeName, StringUtil.notNullize(dataStream.readNameString()));
+  }
+}
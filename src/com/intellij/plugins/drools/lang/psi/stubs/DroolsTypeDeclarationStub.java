@@ -0,0 +1,40 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared by type and enum declarations: both are exposed as {@link DroolsPsiClass}.
+ */
+public class DroolsTypeDeclarationStub extends StubBase<DroolsPsiClass> {
+  private final String myTypeName;
+  private final String mySuperTypeName;
+
+  public DroolsTypeDeclarationStub(@Nullable StubElement<?> parent,
+                                   @NotNull IStubElementType<?, ?> elementType,
+                                   @NotNull String typeName,
+                                   @NotNull String superTypeName) {
+    super(parent, elementType);
+    myTypeName = typeName;
+    mySuperTypeName = superTypeName;
+  }
+
+  /**
+   * @return type name as written in the declaration, may be qualified
+   */
+  public @NotNull String getTypeName() {
+    return myTypeName;
+  }
+
+  /**
+   * @return name of the extended type as written in the declaration, empty if the type extends nothing
+   */
+  public @NotNull String getSuperTypeName() {
+    return mySuperTypeName;
+  }
+}
@@ -0,0 +1,39 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.stubs;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.plugins.drools.lang.psi.DroolsUnitStatement;
+import com.intellij.plugins.drools.lang.psi.impl.DroolsUnitStatementImpl;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public class DroolsUnitStatementElementType extends DroolsStubElementType<DroolsUnitStatementStub, DroolsUnitStatement> {
+  public DroolsUnitStatementElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  @Override
+  public @NotNull DroolsUnitStatement createPsi(@NotNull DroolsUnitStatementStub stub) {
+    return new DroolsUnitStatementImpl(stub, this);
+  }
+
+  @Override
+  public @NotNull DroolsUnitStatementStub createStub(@NotNull DroolsUnitStatement psi, StubElement<?> parentStub) {
+    return new DroolsUnitStatementStub(parentStub, this, psi.getUnitName().getText());
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsUnitStatementStub stub, @NotNull StubOutputStream dataStream) throws IOException {
+    dataStream.writeName(stub.getUnitName());
+  }
+
+  @Override
+  public @NotNull DroolsUnitStatementStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    return new DroolsUnitStatementStub(parentStub, this, StringUtil.notNullize(dataStream.readNameString()));
+  }
+}
@@ -0,0 +1,92 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.util;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.plugins.drools.DroolsLanguage;
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.impl.beanProperties.BeanProperty;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PropertyUtilBase;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Getter-based bean properties of classes (inherited ones included), keyed by property name. Tables of Java source classes
+ * are dropped on Java PSI changes, tables of DRL declared types on Java or Drools PSI changes and tables of compiled classes
+ * when the project roots change; all of them are softly reachable.
+ */
+@Service(Service.Level.PROJECT)
+public final class DroolsBeanPropertiesCache {
+  private final CachedValue<ConcurrentMap<PsiClass, Map<String, BeanProperty>>> mySourceClassProperties;
+  private final CachedValue<ConcurrentMap<PsiClass, Map<String, BeanProperty>>> myDeclaredTypeProperties;
+  private final CachedValue<ConcurrentMap<PsiClass, Map<String, BeanProperty>>> myCompiledClassProperties;
+
+  public DroolsBeanPropertiesCache(@NotNull Project project) {
+    final CachedValuesManager manager = CachedValuesManager.getManager(project);
+    final PsiModificationTracker tracker = PsiModificationTracker.getInstance(project);
+    mySourceClassProperties = manager.createCachedValue(
+      () -> CachedValueProvider.Result.create(ContainerUtil.createConcurrentWeakKeySoftValueMap(),
+                                              tracker.forLanguage(JavaLanguage.INSTANCE), ProjectRootManager.getInstance(project)),
+      false);
+    myDeclaredTypeProperties = manager.createCachedValue(
+      () -> CachedValueProvider.Result.create(ContainerUtil.createConcurrentWeakKeySoftValueMap(),
+                                              tracker.forLanguage(JavaLanguage.INSTANCE), tracker.forLanguage(DroolsLanguage.INSTANCE),
+                                              ProjectRootManager.getInstance(project)),
+      false);
+    myCompiledClassProperties = manager.createCachedValue(
+      () -> CachedValueProvider.Result.create(ContainerUtil.createConcurrentWeakKeySoftValueMap(), ProjectRootManager.getInstance(project)),
+      false);
+  }
+
+  public static @NotNull DroolsBeanPropertiesCache getInstance(@NotNull Project project) {
+    return project.getService(DroolsBeanPropertiesCache.class);
+  }
+
+  public @NotNull Map<String, BeanProperty> getProperties(@NotNull PsiClass psiClass) {
+    final PsiClass aClass = psiClass instanceof DroolsLightClass lightClass ? lightClass.getDelegate() : psiClass;
+    final CachedValue<ConcurrentMap<PsiClass, Map<String, BeanProperty>>> cache =
+      aClass instanceof PsiCompiledElement ? myCompiledClassProperties :
+      aClass instanceof DroolsPsiClass ? myDeclaredTypeProperties : mySourceClassProperties;
+    return cache.getValue().computeIfAbsent(aClass, DroolsBeanPropertiesCache::computeProperties);
+  }
+
+  public @Nullable BeanProperty getProperty(@NotNull PsiClass psiClass, @NotNull String name) {
+    return getProperties(psiClass).get(name);
+  }
+
+  /**
+   * @return property of the simple property {@code getter}
+   */
+  public @Nullable BeanProperty getProperty(@NotNull PsiMethod getter) {
+    final PsiClass containingClass = getter.getContainingClass();
+    if (containingClass != null) {
+      final BeanProperty property = getProperties(containingClass).get(PropertyUtilBase.getPropertyNameByGetter(getter));
+      if (property != null && getter.equals(property.getMethod())) return property;
+    }
+    return BeanProperty.createBeanProperty(getter);
+  }
+
+  private static @NotNull Map<String, BeanProperty> computeProperties(@NotNull PsiClass psiClass) {
+    final Map<String, BeanProperty> properties = new LinkedHashMap<>();
+    for (Map.Entry<String, PsiMethod> entry : PropertyUtilBase.getAllProperties(psiClass, false, true).entrySet()) {
+      final BeanProperty beanProperty = BeanProperty.createBeanProperty(entry.getValue());
+      if (beanProperty != null) properties.put(entry.getKey(), beanProperty);
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+}
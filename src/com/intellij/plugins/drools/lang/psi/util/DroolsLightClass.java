@@ -23,6 +23,10 @@ public class DroolsLightClass extends LightClass {
     myResolve = resolve;
   }
 
+  public static @NotNull DroolsLightClass getInstance(@NotNull PsiClass psiClass) {
+    return DroolsLightClassesCache.getInstance(psiClass.getProject()).getLightClass(psiClass);
+  }
+
   @Override
   public boolean processDeclarations(final @NotNull PsiScopeProcessor processor,
                                      @NotNull ResolveState state,
@@ -45,7 +49,7 @@ public class DroolsLightClass extends LightClass {
         private boolean processBeanProperty(@Nullable PsiMethod psiMethod,
                                             @NotNull ResolveState state) {
           if (PropertyUtilBase.isSimplePropertyGetter(psiMethod)) {
-            final BeanProperty beanProperty = BeanProperty.createBeanProperty(psiMethod);
+            final BeanProperty beanProperty = DroolsBeanPropertiesCache.getInstance(getProject()).getProperty(psiMethod);
             if (beanProperty != null) {
               if (!super
                 .execute(new DroolsBeanPropertyLightVariable(beanProperty), state)) {
@@ -0,0 +1,36 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.util;
+
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonical {@link DroolsLightClass} of a class, shared by all resolve paths until the next PSI change.
+ */
+@Service(Service.Level.PROJECT)
+public final class DroolsLightClassesCache {
+  private final CachedValue<ConcurrentMap<PsiClass, DroolsLightClass>> myLightClasses;
+
+  public DroolsLightClassesCache(@NotNull Project project) {
+    myLightClasses = CachedValuesManager.getManager(project).createCachedValue(
+      () -> CachedValueProvider.Result.create(ContainerUtil.createConcurrentWeakKeyWeakValueMap(), PsiModificationTracker.getInstance(project)),
+      false);
+  }
+
+  public static @NotNull DroolsLightClassesCache getInstance(@NotNull Project project) {
+    return project.getService(DroolsLightClassesCache.class);
+  }
+
+  public @NotNull DroolsLightClass getLightClass(@NotNull PsiClass psiClass) {
+    return myLightClasses.getValue().computeIfAbsent(psiClass, DroolsLightClass::new);
+  }
+}
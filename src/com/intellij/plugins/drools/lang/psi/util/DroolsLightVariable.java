@@ -28,7 +28,7 @@ public class DroolsLightVariable extends ImplicitVariableImpl {
       if (psiClass != null && !InheritanceUtil.isInheritor(psiClass, CommonClassNames.JAVA_UTIL_COLLECTION) &&
           !InheritanceUtil.isInheritor(psiClass, CommonClassNames.JAVA_UTIL_MAP)) {
 
-        return JavaPsiFacade.getElementFactory(psiClass.getProject()).createType(new DroolsLightClass(psiClass));
+        return JavaPsiFacade.getElementFactory(psiClass.getProject()).createType(DroolsLightClass.getInstance(psiClass));
       }
     }
     return type;
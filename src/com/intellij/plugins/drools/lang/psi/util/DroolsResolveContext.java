@@ -0,0 +1,137 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.util;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.plugins.drools.DroolsLanguage;
+import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.plugins.drools.lang.psi.DroolsImportStatement;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.containers.MultiMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Everything the imports and the package statement of a Drools file resolve to. Computed once per file and reused
+ * by all references of the file until the file, the Java or Drools PSI or the project structure changes.
+ */
+public final class DroolsResolveContext {
+  private final @NotNull GlobalSearchScope mySearchScope;
+  private final @Nullable PsiPackage myCurrentPackage;
+  private final @NotNull Set<PsiPackage> myExplicitlyImportedPackages = new LinkedHashSet<>();
+  private final @NotNull MultiMap<String, PsiClass> myImportedClasses = MultiMap.createLinked();
+  private final @NotNull List<PsiMethod> myImportedFunctions = new ArrayList<>();
+  private final @NotNull Set<PsiField> myImportedStaticMembers = new LinkedHashSet<>();
+
+  private DroolsResolveContext(@NotNull DroolsFile droolsFile) {
+    final Project project = droolsFile.getProject();
+    final JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+
+    final Module module = ModuleUtilCore.findModuleForPsiElement(droolsFile);
+    mySearchScope = module != null ? module.getModuleRuntimeScope(false) : GlobalSearchScope.allScope(project);
+
+    final String packageName = droolsFile.getPackageName();
+    myCurrentPackage = !StringUtil.isEmptyOrSpaces(packageName) ? facade.findPackage(packageName) : null;
+
+    for (DroolsImportStatement anImport : droolsFile.getImports()) {
+      if (anImport.isFunction()) {
+        addImportedFunctions(facade, anImport.getImportedFunction());
+      }
+      else {
+        final String importedPackage = anImport.getImportedPackage();
+        if (importedPackage != null) {
+          final PsiPackage psiPackage = facade.findPackage(importedPackage);
+          if (psiPackage != null) myExplicitlyImportedPackages.add(psiPackage);
+        }
+        final String className = anImport.getImportedClassName();
+        if (className != null) {
+          if (anImport.isStatic()) {
+            addImportedStaticMember(facade, className);
+          }
+          final PsiClass psiClass = facade.findClass(className, mySearchScope);
+          if (psiClass != null && psiClass.getName() != null) {
+            myImportedClasses.putValue(psiClass.getName(), DroolsLightClass.getInstance(psiClass));
+          }
+        }
+      }
+    }
+  }
+
+  public static @NotNull DroolsResolveContext getInstance(@NotNull DroolsFile droolsFile) {
+    return CachedValuesManager.getCachedValue(droolsFile, () -> {
+      final Project project = droolsFile.getProject();
+      return CachedValueProvider.Result.create(new DroolsResolveContext(droolsFile), droolsFile,
+                                               PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+                                               PsiModificationTracker.getInstance(project).forLanguage(DroolsLanguage.INSTANCE),
+                                               VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                                               ProjectRootManager.getInstance(project));
+    });
+  }
+
+  private void addImportedFunctions(@NotNull JavaPsiFacade facade, @Nullable String importedFunction) {
+    if (StringUtil.isEmpty(importedFunction) || !importedFunction.contains(".")) return;
+    final String className = importedFunction.substring(0, importedFunction.lastIndexOf("."));
+    final String methodName = StringUtil.getShortName(importedFunction);
+    if (StringUtil.isNotEmpty(className) && StringUtil.isNotEmpty(methodName)) {
+      final PsiClass psiClass = facade.findClass(className, mySearchScope);
+      if (psiClass != null) {
+        myImportedFunctions.addAll(Arrays.asList(psiClass.findMethodsByName(methodName, true)));
+      }
+    }
+  }
+
+  private void addImportedStaticMember(@NotNull JavaPsiFacade facade, @NotNull String imported) {
+    if (!imported.contains(".")) return;
+    final String className = imported.substring(0, imported.lastIndexOf("."));
+    final String memberName = StringUtil.getShortName(imported);
+    if (StringUtil.isNotEmpty(memberName) && StringUtil.isNotEmpty(className)) {
+      final PsiClass psiClass = facade.findClass(className, mySearchScope);
+      if (psiClass != null) {
+        final PsiField fieldByName = psiClass.findFieldByName(memberName, true);
+        if (fieldByName != null) myImportedStaticMembers.add(fieldByName);
+      }
+    }
+  }
+
+  public @NotNull GlobalSearchScope getSearchScope() {
+    return mySearchScope;
+  }
+
+  public @Nullable PsiPackage getCurrentPackage() {
+    return myCurrentPackage;
+  }
+
+  public @NotNull Set<PsiPackage> getExplicitlyImportedPackages() {
+    return Collections.unmodifiableSet(myExplicitlyImportedPackages);
+  }
+
+  /**
+   * @return explicitly imported classes wrapped into {@link DroolsLightClass}
+   */
+  public @NotNull Collection<PsiClass> getImportedClasses() {
+    return Collections.unmodifiableCollection(myImportedClasses.values());
+  }
+
+  public @NotNull Collection<PsiClass> getImportedClasses(@NotNull String shortName) {
+    return Collections.unmodifiableCollection(myImportedClasses.get(shortName));
+  }
+
+  public @NotNull List<PsiMethod> getImportedFunctions() {
+    return Collections.unmodifiableList(myImportedFunctions);
+  }
+
+  public @NotNull Set<PsiField> getImportedStaticMembers() {
+    return Collections.unmodifiableSet(myImportedStaticMembers);
+  }
+}
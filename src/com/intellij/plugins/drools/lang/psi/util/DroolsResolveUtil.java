@@ -1,23 +1,31 @@
 // Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.intellij.plugins.drools.lang.psi.util;
 
-import com.intellij.openapi.module.Module;
-import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.util.Condition;
 import com.intellij.openapi.util.RecursionManager;
 import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.plugins.drools.DroolsLanguage;
 import com.intellij.plugins.drools.lang.psi.*;
 import com.intellij.plugins.drools.lang.psi.impl.DroolsFakePsiMethod;
 import com.intellij.plugins.drools.lang.psi.impl.DroolsPsiClassImpl;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsFunctionNameIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsGlobalNameIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsIndexUtil;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsQueryNameIndex;
 import com.intellij.plugins.drools.lang.psi.util.processors.*;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.beanProperties.BeanProperty;
 import com.intellij.psi.impl.beanProperties.BeanPropertyElement;
+import com.intellij.psi.scope.ElementClassHint;
+import com.intellij.psi.scope.NameHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StubIndexKey;
 import com.intellij.psi.util.*;
 import com.intellij.util.CommonProcessors.CollectProcessor;
 import com.intellij.util.Processor;
@@ -89,10 +97,7 @@ public final class DroolsResolveUtil {
       if (resolve instanceof PsiClass) {
         return processClassMembers(processor, Collections.singleton((PsiClass)resolve), true);
       }
-    }
-
-    if (leftReference != null) {
-      return processClassMembers(processor, leftReference);
+      return processClassMembers(processor, getQualifierClasses(leftReference), false);
     }
     if (PsiTreeUtil.getParentOfType(reference, DroolsRuleStatement.class) != null) {
       if (!processModifyStatements(processor, reference)) return false;
@@ -120,8 +125,10 @@ public final class DroolsResolveUtil {
 
   private static boolean processFunctions(CollectProcessor<PsiElement> processor, DroolsReference reference) {
     PsiFile containingFile = reference.getContainingFile();
-    if (containingFile instanceof DroolsFile) {
-      for (DroolsFunctionStatement functionStatement : ((DroolsFile)containingFile).getFunctions()) {
+    if (containingFile instanceof DroolsFile droolsFile) {
+      final Collection<DroolsFunctionStatement> functions =
+        getPackageMembers(droolsFile, droolsFile.getFunctions(), DroolsFunctionNameIndex.KEY, DroolsFunctionStatement.class, getNameToResolve(processor));
+      for (DroolsFunctionStatement functionStatement : functions) {
         if (!processor.process(functionStatement)) return false;
       }
     }
@@ -150,8 +157,10 @@ public final class DroolsResolveUtil {
 
   private static boolean processQueries(CollectProcessor<PsiElement> processor, DroolsReference reference) {
     PsiFile containingFile = reference.getContainingFile();
-    if (containingFile instanceof DroolsFile) {
-      for (DroolsQueryStatement queryStatement : ((DroolsFile)containingFile).getQueries()) {
+    if (containingFile instanceof DroolsFile droolsFile) {
+      final Collection<DroolsQueryStatement> queries =
+        getPackageMembers(droolsFile, droolsFile.getQueries(), DroolsQueryNameIndex.KEY, DroolsQueryStatement.class, getNameToResolve(processor));
+      for (DroolsQueryStatement queryStatement : queries) {
         if (!processor.process(queryStatement)) return false;
       }
     }
@@ -160,14 +169,52 @@ public final class DroolsResolveUtil {
 
   private static boolean processGlobalVariables(CollectProcessor<PsiElement> processor, DroolsReference reference) {
     PsiFile containingFile = reference.getContainingFile();
-    if (containingFile instanceof DroolsFile) {
-      for (DroolsGlobalStatement globalStatement : ((DroolsFile)containingFile).getGlobalVariables()) {
+    if (containingFile instanceof DroolsFile droolsFile) {
+      final Collection<DroolsGlobalStatement> globals =
+        getPackageMembers(droolsFile, droolsFile.getGlobalVariables(), DroolsGlobalNameIndex.KEY, DroolsGlobalStatement.class, getNameToResolve(processor));
+      for (DroolsGlobalStatement globalStatement : globals) {
         if (!processor.process(globalStatement)) return false;
       }
     }
     return true;
   }
 
+  private static @Nullable String getNameToResolve(@NotNull CollectProcessor<PsiElement> processor) {
+    return processor instanceof MyReferenceResolvePsiElementProcessor resolveProcessor ? resolveProcessor.myTextToResolve : null;
+  }
+
+  /**
+   * Members of the file itself followed by the members declared with the same package in other files.
+   *
+   * @param name member name to look up in the index or {@code null} to collect all members of the package
+   */
+  public static <T extends PsiElement> @NotNull Collection<T> getPackageMembers(@NotNull DroolsFile droolsFile,
+                                                                               T @NotNull [] fileMembers,
+                                                                               @NotNull StubIndexKey<String, T> indexKey,
+                                                                               @NotNull Class<T> memberClass,
+                                                                               @Nullable String name) {
+    final Set<T> members = new LinkedHashSet<>();
+    for (T member : fileMembers) {
+      if (name == null || isNamed(member, name)) members.add(member);
+    }
+
+    final Project project = droolsFile.getProject();
+    if (DumbService.isDumb(project)) return members;
+
+    final PsiFile originalFile = droolsFile.getOriginalFile();
+    for (T member : DroolsIndexUtil.getPackageMembers(indexKey, memberClass, droolsFile.getPackageName(), name, project,
+                                                      getSearchScope(droolsFile))) {
+      final PsiFile memberFile = member.getContainingFile();
+      if (!droolsFile.equals(memberFile) && !originalFile.equals(memberFile)) members.add(member);
+    }
+    return members;
+  }
+
+  private static boolean isNamed(@NotNull PsiElement member, @NotNull String name) {
+    return !(member instanceof PsiNamedElement namedElement) ||
+           StringUtil.unquoteString(name).equals(StringUtil.unquoteString(StringUtil.notNullize(namedElement.getName())));
+  }
+
   private static boolean processModifyStatements(@NotNull CollectProcessor<PsiElement> processor,
                                                  DroolsReference reference) {
     final DroolsModifyRhsStatement modifyRhsStatement = PsiTreeUtil.getParentOfType(reference, DroolsModifyRhsStatement.class);
@@ -224,42 +271,44 @@ public final class DroolsResolveUtil {
     return variables;
   }
 
-  private static boolean processClassMembers(@NotNull CollectProcessor<PsiElement> processor, DroolsReference leftReference) {
-    PsiElement resolve = leftReference.resolve();
+  /**
+   * Classes whose members are accessed through {@code qualifier}, e.g. the pattern type of {@code $p} in {@code $p.address}.
+   */
+  private static @NotNull Set<PsiClass> getQualifierClasses(@NotNull DroolsReference qualifier) {
+    return CachedValuesManager.getCachedValue(qualifier, () -> CachedValueProvider.Result.create(
+      computeQualifierClasses(qualifier), PsiModificationTracker.getInstance(qualifier.getProject())));
+  }
+
+  private static @NotNull Set<PsiClass> computeQualifierClasses(@NotNull DroolsReference qualifier) {
+    PsiElement resolve = qualifier.resolve();
     if (resolve instanceof DroolsLhsPatternBind bind) {
-      return processClassMembers(processor, getPatternBindType(bind.getLhsPatternList()), false);
+      return getPatternBindType(bind.getLhsPatternList());
     }
     else if (resolve instanceof DroolsLhsOOPathBind bind) {
-      return processClassMembers(processor, getPatternOOPathBindType(bind.getLhsOOPSegmentList()), false);
+      return getPatternOOPathBindType(bind.getLhsOOPSegmentList());
     }
     else if (resolve instanceof DroolsUnaryAssignExpr) {
       DroolsLhsPattern droolsLhsPattern = PsiTreeUtil.getParentOfType(resolve, DroolsLhsPattern.class);
-      if (droolsLhsPattern != null) {
-        PsiType psiType = ((DroolsUnaryAssignExpr)resolve).getType();
-        if (processPsiClassTypeMembers(processor, psiType)) {
-          if (psiType instanceof PsiClassType) {
-            return processClassMembers(processor, Collections.singleton(((PsiClassType)psiType).resolve()), false);
-          }
-        }
-      }
+      return droolsLhsPattern != null ? getClasses(((DroolsUnaryAssignExpr)resolve).getType()) : Collections.emptySet();
     }
     else if (resolve instanceof PsiVariable) {
-      return processPsiClassTypeMembers(processor, ((PsiVariable)resolve).getType());
+      return getClasses(((PsiVariable)resolve).getType());
+    }
+    else if (resolve instanceof PsiMethod) {
+      return getClasses(((PsiMethod)resolve).getReturnType());
     }
     else if (resolve instanceof BeanProperty) {
-      return processPsiClassTypeMembers(processor, ((BeanProperty)resolve).getPropertyType());
+      return getClasses(((BeanProperty)resolve).getPropertyType());
     }
     else if (resolve instanceof BeanPropertyElement) {
-      return processPsiClassTypeMembers(processor, ((BeanPropertyElement)resolve).getPropertyType());
+      return getClasses(((BeanPropertyElement)resolve).getPropertyType());
     }
-    return true;
+    return Collections.emptySet();
   }
 
-  private static boolean processPsiClassTypeMembers(@NotNull CollectProcessor<PsiElement> processor, PsiType type) {
-    if (type instanceof PsiClassType) {
-      return processClassMembers(processor, Collections.singleton(((PsiClassType)type).resolve()), false);
-    }
-    return true;
+  private static @NotNull Set<PsiClass> getClasses(@Nullable PsiType type) {
+    final PsiClass psiClass = type instanceof PsiClassType ? ((PsiClassType)type).resolve() : null;
+    return psiClass != null ? Collections.singleton(psiClass) : Collections.emptySet();
   }
 
   private static boolean processConstrains(CollectProcessor<PsiElement> processor, DroolsReference reference) {
@@ -298,7 +347,7 @@ public final class DroolsResolveUtil {
   }
 
   private static boolean processPatternBinds(CollectProcessor<PsiElement> processor, DroolsReference reference) {
-    Set<PsiVariable> patternBinds = DroolsLhsBindVariablesProcessor.getPatternBinds(reference);
+    Set<PsiVariable> patternBinds = DroolsLhsBindVariablesProcessor.getPatternBinds(reference, getNameToResolve(processor));
     for (PsiVariable psiVariable : patternBinds) {
       if (!processor.process(psiVariable)) return false;
     }
@@ -306,7 +355,7 @@ public final class DroolsResolveUtil {
   }
 
   private static boolean processOOPathBinds(CollectProcessor<PsiElement> processor, DroolsReference reference) {
-    Set<PsiVariable> patternBinds = DroolsLhsOOPathBindVariablesProcessor.getOOPathBinds(reference);
+    Set<PsiVariable> patternBinds = DroolsLhsOOPathBindVariablesProcessor.getOOPathBinds(reference, getNameToResolve(processor));
     for (PsiVariable psiVariable : patternBinds) {
       if (!processor.process(psiVariable)) return false;
     }
@@ -314,26 +363,7 @@ public final class DroolsResolveUtil {
   }
 
   public static @Nullable PsiClass getUnitClass(@NotNull DroolsFile droolsFile) {
-    return CachedValuesManager.getCachedValue(droolsFile, () -> {
-      return CachedValueProvider.Result.create(getUnitPsiClass(droolsFile), droolsFile,
-                                               ProjectRootManager.getInstance(droolsFile.getProject()));
-    });
-  }
-
-  private static @Nullable PsiClass getUnitPsiClass(@NotNull DroolsFile droolsFile) {
-    final DroolsUnitStatement unitStatement = droolsFile.getUnitStatement();
-    if (unitStatement != null) {
-      final String name = unitStatement.getUnitName().getText();
-      final Module module = ModuleUtilCore.findModuleForPsiElement(droolsFile);
-      final GlobalSearchScope scope =
-        module != null ? module.getModuleRuntimeScope(false) : getSearchScope(droolsFile);
-      final PsiPackage currentPackage = getCurrentPsiPackage(droolsFile);
-      if (currentPackage != null) {
-        final PsiClass[] classByShortName = currentPackage.findClassByShortName(name, scope);
-        if (classByShortName.length > 0) return classByShortName[0];
-      }
-    }
-    return null;
+    return DroolsRuleUnitResolver.getInstance(droolsFile.getProject()).getUnitClass(droolsFile);
   }
 
   private static boolean processParameters(CollectProcessor<PsiElement> processor, DroolsReference reference) {
@@ -356,17 +386,15 @@ public final class DroolsResolveUtil {
     final PsiClass unitClass = getUnitClass((DroolsFile)lhsPattern.getContainingFile());
     if (unitClass != null) {
       Set<PsiClass> classes = new HashSet<>();
-      for (PsiMethod psiMethod : PropertyUtilBase.getAllProperties(unitClass, false, true).values()) {
-        final BeanProperty beanProperty = BeanProperty.createBeanProperty(psiMethod);
-        if (beanProperty != null && name.equals(beanProperty.getName())) {
-          final PsiType propertyType = beanProperty.getPropertyType();
-          final PsiType dataStoreClass = PsiUtil.substituteTypeParameter(propertyType, DATA_STORE_CLASS, 0, false);
-          if (dataStoreClass instanceof PsiClassType) {
-            classes.add(((PsiClassType)dataStoreClass).resolve());
-          }
-          else if (propertyType instanceof PsiClassType) {
-            classes.add(((PsiClassType)propertyType).resolve());
-          }
+      final BeanProperty beanProperty = DroolsBeanPropertiesCache.getInstance(unitClass.getProject()).getProperty(unitClass, name);
+      if (beanProperty != null) {
+        final PsiType propertyType = beanProperty.getPropertyType();
+        final PsiType dataStoreClass = PsiUtil.substituteTypeParameter(propertyType, DATA_STORE_CLASS, 0, false);
+        if (dataStoreClass instanceof PsiClassType) {
+          classes.add(((PsiClassType)dataStoreClass).resolve());
+        }
+        else if (propertyType instanceof PsiClassType) {
+          classes.add(((PsiClassType)propertyType).resolve());
         }
       }
       return classes;
@@ -380,7 +408,7 @@ public final class DroolsResolveUtil {
     if (identifiers != null) {
       final PsiElement resolve = chooseDroolsTypeResult(identifiers[identifiers.length - 1].multiResolve(false));
       if (resolve instanceof PsiClass) {
-        psiClasses.add(new DroolsLightClass((PsiClass)resolve));
+        psiClasses.add(DroolsLightClass.getInstance((PsiClass)resolve));
       }
     }
     return psiClasses;
@@ -392,21 +420,28 @@ public final class DroolsResolveUtil {
     final PsiFile file = reference.getContainingFile();
     if (file instanceof DroolsFile) {
       final GlobalSearchScope searchScope = getSearchScope((DroolsFile)file);
+      final String name = getNameToResolve(processor);
       DroolsReference leftReference = getLeftReference(reference);
       if (leftReference == null) {
         if (isImportQualifier(reference.getElement())) {
-          return processTopPackage(processor, searchScope, reference.getProject());
+          return name != null
+                 ? processTopPackage(processor, name, reference.getProject())
+                 : processTopPackage(processor, searchScope, reference.getProject());
         }
         return processSimplePackageOrClass(processor, reference); //
       }
       else {
         for (ResolveResult result : leftReference.multiResolve(false)) {
           PsiElement element = result.getElement();
-          if (element instanceof PsiPackage) {
-            for (PsiPackage subPackage : ((PsiPackage)element).getSubPackages(searchScope)) {
+          if (element instanceof PsiPackage psiPackage) {
+            if (name != null) {
+              if (!processPackageMembers(processor, psiPackage, name, searchScope)) return false;
+              continue;
+            }
+            for (PsiPackage subPackage : psiPackage.getSubPackages(searchScope)) {
               if (!processor.process(subPackage)) return false;
             }
-            for (PsiClass psiClass : ((PsiPackage)element).getClasses(searchScope)) {
+            for (PsiClass psiClass : psiPackage.getClasses(searchScope)) {
               if (!processor.process(psiClass)) return false;
             }
           }
@@ -435,10 +470,16 @@ public final class DroolsResolveUtil {
   private static boolean processSimplePackageOrClass(CollectProcessor<PsiElement> processor, DroolsReference reference) {
     DroolsFile droolsFile = PsiTreeUtil.getParentOfType(reference, DroolsFile.class);
     if (droolsFile != null) {
+      final String name = getNameToResolve(processor);
+      if (name != null) return processSimplePackageOrClass(processor, droolsFile, name);
+
       final GlobalSearchScope scope = getSearchScope(droolsFile);
       if (!processTopPackage(processor, scope, reference.getProject())) return false;
       for (PsiPackage aPackage : getImportedPackages(droolsFile)) {
-        if (!processPackage(processor, aPackage, scope, false)) return false;
+        if (!processor.process(aPackage)) return false;
+        for (PsiClass psiClass : aPackage.getClasses(scope)) {
+          if (!isDeclaredIn(psiClass, droolsFile) && !processor.process(psiClass)) return false;
+        }
       }
 
       final PsiPackage javaLangPackage = getJavaLangPackage(droolsFile.getProject());
@@ -446,17 +487,76 @@ public final class DroolsResolveUtil {
         if (!processPackage(processor, javaLangPackage, GlobalSearchScope.allScope(droolsFile.getProject()))) return false;
       }
       if (!processImportedClasses(droolsFile, processor)) return false;
+      return processDeclaredTypes(processor, droolsFile);
+    }
 
-      // process declared types
-      DroolsDeclareStatement[] declarations = droolsFile.getDeclarations();
-      for (DroolsDeclareStatement declaration : declarations) {
-        DroolsTypeDeclaration typeDeclaration = declaration.getTypeDeclaration();
-        if (typeDeclaration != null && !processor.process(typeDeclaration)) {
-          return false;
-        }
+    return true;
+  }
+
+  /**
+   * Looks up only the elements named {@code name}: a top level package, classes of the imported packages and of
+   * {@code java.lang}, explicitly imported classes and declared types.
+   */
+  private static boolean processSimplePackageOrClass(@NotNull CollectProcessor<PsiElement> processor,
+                                                     @NotNull DroolsFile droolsFile,
+                                                     @NotNull String name) {
+    final Project project = droolsFile.getProject();
+    final GlobalSearchScope scope = getSearchScope(droolsFile);
+    if (!processTopPackage(processor, name, project)) return false;
+    for (PsiPackage aPackage : getImportedPackages(droolsFile)) {
+      if (name.equals(aPackage.getName()) && !processor.process(aPackage)) return false;
+      for (PsiClass psiClass : aPackage.findClassByShortName(name, scope)) {
+        if (!isDeclaredIn(psiClass, droolsFile) && !processor.process(psiClass)) return false;
       }
     }
 
+    final PsiPackage javaLangPackage = getJavaLangPackage(project);
+    if (javaLangPackage != null) {
+      for (PsiClass psiClass : javaLangPackage.findClassByShortName(name, GlobalSearchScope.allScope(project))) {
+        if (!processor.process(psiClass)) return false;
+      }
+    }
+    for (PsiClass importedClass : DroolsResolveContext.getInstance(droolsFile).getImportedClasses(name)) {
+      if (!processor.process(importedClass)) return false;
+    }
+    return processDeclaredTypes(processor, droolsFile);
+  }
+
+  /**
+   * Types declared in the file itself are processed as {@link DroolsTypeDeclaration}s, not as their light classes.
+   */
+  private static boolean isDeclaredIn(@NotNull PsiClass psiClass, @NotNull DroolsFile droolsFile) {
+    final PsiClass delegate = psiClass instanceof DroolsLightClass lightClass ? lightClass.getDelegate() : psiClass;
+    if (!(delegate instanceof DroolsTypeDeclaration)) return false;
+    final PsiFile file = delegate.getContainingFile();
+    return droolsFile.equals(file) || droolsFile.getOriginalFile().equals(file);
+  }
+
+  private static boolean processDeclaredTypes(@NotNull CollectProcessor<PsiElement> processor, @NotNull DroolsFile droolsFile) {
+    for (DroolsDeclareStatement declaration : droolsFile.getDeclarations()) {
+      DroolsTypeDeclaration typeDeclaration = declaration.getTypeDeclaration();
+      if (typeDeclaration != null && !processor.process(typeDeclaration)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean processTopPackage(CollectProcessor<PsiElement> processor, @NotNull String name, Project project) {
+    final PsiPackage aPackage = JavaPsiFacade.getInstance(project).findPackage(name);
+    return aPackage == null || processor.process(aPackage);
+  }
+
+  private static boolean processPackageMembers(CollectProcessor<PsiElement> processor,
+                                               @NotNull PsiPackage aPackage,
+                                               @NotNull String name,
+                                               @NotNull GlobalSearchScope searchScope) {
+    final String qualifiedName = StringUtil.getQualifiedName(aPackage.getQualifiedName(), name);
+    final PsiPackage subPackage = JavaPsiFacade.getInstance(aPackage.getProject()).findPackage(qualifiedName);
+    if (subPackage != null && !processor.process(subPackage)) return false;
+    for (PsiClass psiClass : aPackage.findClassByShortName(name, searchScope)) {
+      if (!processor.process(psiClass)) return false;
+    }
     return true;
   }
 
@@ -492,13 +592,41 @@ public final class DroolsResolveUtil {
   }
 
 
+  /**
+   * @return the reference qualifying {@code node} in {@code a.node}, {@code a!.node}, {@code a().node} and
+   * {@code expr.a.node} selectors
+   */
   public static @Nullable DroolsReference getLeftReference(final @Nullable PsiElement node) {
     if (node == null) return null;
-    for (PsiElement sibling = getPrevSiblingSkipWhiteSpaces(node, true);
-         sibling != null;
-         sibling = getPrevSiblingSkipWhiteSpaces(sibling, true)) {
-      if (".".equals(sibling.getText())) continue;
-      return sibling instanceof DroolsReference && sibling != node ? (DroolsReference)sibling : null;
+    final PsiElement sibling = getPrevSiblingSkipWhiteSpaces(node, true);
+    if (sibling != null && isMemberAccess(sibling)) {
+      PsiElement qualifier = getPrevSiblingSkipWhiteSpaces(sibling, true);
+      if (qualifier == null && node.getParent() instanceof DroolsSelector selector) {
+        qualifier = getPrevSiblingSkipWhiteSpaces(selector, true);
+      }
+      return getQualifierReference(qualifier);
+    }
+    return sibling instanceof DroolsReference ? (DroolsReference)sibling : null;
+  }
+
+  private static boolean isMemberAccess(@NotNull PsiElement element) {
+    final String text = element.getText();
+    return ".".equals(text) || "!.".equals(text);
+  }
+
+  private static @Nullable DroolsReference getQualifierReference(@Nullable PsiElement qualifier) {
+    if (qualifier instanceof DroolsReference reference) {
+      return reference;
+    }
+    if (qualifier instanceof DroolsIdentifierSuffix suffix) {
+      // method call: foo().bar
+      return suffix.getArguments() != null ? getQualifierReference(getPrevSiblingSkipWhiteSpaces(suffix, true)) : null;
+    }
+    if (qualifier instanceof DroolsSelector selector) {
+      return selector.getIdentifier();
+    }
+    if (qualifier instanceof DroolsPrimaryExpr) {
+      return getQualifierReference(getPrevSiblingSkipWhiteSpaces(qualifier.getLastChild(), false));
     }
     return null;
   }
@@ -521,9 +649,13 @@ public final class DroolsResolveUtil {
 
   private static boolean processClassMembers(@NotNull CollectProcessor<PsiElement> processor,
                                              @NotNull Set<PsiClass> psiClasses, boolean isStatic) {
-
+    final String name = getNameToResolve(processor);
     for (PsiClass psiClass : psiClasses) {
       if (psiClass == null) continue;
+      if (name != null) {
+        if (!processClassMembers(processor, psiClass, name, isStatic)) return false;
+        continue;
+      }
       if (isStatic) {
         if (psiClass.isEnum()) {
           for (PsiField field : psiClass.getAllFields()) {
@@ -556,12 +688,51 @@ public final class DroolsResolveUtil {
         }
       }
       for (PsiClass innerClass : psiClass.getInnerClasses()) {
-        if (!processor.process(new DroolsLightClass(innerClass))) return false;
+        if (!processor.process(DroolsLightClass.getInstance(innerClass))) return false;
       }
     }
     return true;
   }
 
+  /**
+   * Members of {@code psiClass} named {@code name}, including getters of the {@code name} bean property.
+   */
+  private static boolean processClassMembers(@NotNull CollectProcessor<PsiElement> processor,
+                                             @NotNull PsiClass psiClass,
+                                             @NotNull String name,
+                                             boolean isStatic) {
+    final PsiField field = psiClass.findFieldByName(name, true);
+    if (field != null && (!isStatic || psiClass.isEnum() || isPublicStatic(field)) && !processor.process(field)) return false;
+
+    if (!isStatic || !psiClass.isEnum()) {
+      for (PsiMethod method : psiClass.findMethodsByName(name, true)) {
+        if ((!isStatic || isPublicStatic(method)) && !processor.process(method)) return false;
+      }
+      if (isStatic) {
+        final String capitalized = StringUtil.capitalizeWithJavaBeanConvention(name);
+        for (String getterName : new String[]{"get" + capitalized, "is" + capitalized}) {
+          for (PsiMethod method : psiClass.findMethodsByName(getterName, true)) {
+            if (isPublicStatic(method) && !processor.process(method)) return false;
+          }
+        }
+      }
+      else {
+        final BeanProperty property = DroolsBeanPropertiesCache.getInstance(psiClass.getProject()).getProperty(psiClass, name);
+        if (property != null && !processor.process(property.getMethod())) return false;
+      }
+    }
+
+    final PsiClass innerClass = psiClass.findInnerClassByName(name, false);
+    return innerClass == null || processor.process(DroolsLightClass.getInstance(innerClass));
+  }
+
+  private static boolean isPublicStatic(@NotNull PsiModifierListOwner member) {
+    final PsiModifierList modifierList = member.getModifierList();
+    return modifierList != null
+           && modifierList.hasModifierProperty(PsiModifier.PUBLIC)
+           && modifierList.hasModifierProperty(PsiModifier.STATIC);
+  }
+
   public static @NotNull Set<PsiClass> getPatternBindType(@NotNull Collection<? extends DroolsLhsPattern> patternBinds) {
     Set<PsiClass> psiClasses = new HashSet<>();
     for (DroolsLhsPattern lhsPattern : patternBinds) {
@@ -634,7 +805,7 @@ public final class DroolsResolveUtil {
       }
       else if (psiType instanceof PsiClassType) {
         final PsiClass psiClass = ((PsiClassType)psiType).resolve();
-        if (psiClass != null) return elementFactory.createType(new DroolsLightClass(psiClass));
+        if (psiClass != null) return elementFactory.createType(DroolsLightClass.getInstance(psiClass));
       }
       return resolveIdentifiers(droolsType);
     }
@@ -647,7 +818,7 @@ public final class DroolsResolveUtil {
       final DroolsIdentifier identifier = identifierList.get(identifierList.size() - 1);
       final PsiElement resolve = identifier.resolve();
       if (resolve instanceof PsiClass) {
-        return JavaPsiFacade.getElementFactory(type.getProject()).createType(new DroolsLightClass((PsiClass)resolve));
+        return JavaPsiFacade.getElementFactory(type.getProject()).createType(DroolsLightClass.getInstance((PsiClass)resolve));
       }
       return null;
     });
@@ -658,33 +829,24 @@ public final class DroolsResolveUtil {
   }
 
   public static Set<PsiPackage> getImportedPackages(@NotNull DroolsFile droolsFile, boolean addDefaultPackages) {
-    // todo cache it
+    final DroolsResolveContext context = DroolsResolveContext.getInstance(droolsFile);
     Set<PsiPackage> imported = new HashSet<>();
 
     if (addDefaultPackages) {
-      ContainerUtil.addIfNotNull(imported, getCurrentPsiPackage(droolsFile));
+      ContainerUtil.addIfNotNull(imported, context.getCurrentPackage());
     }
 
-    imported.addAll(getExplicitlyImportedPackages(droolsFile));
+    imported.addAll(context.getExplicitlyImportedPackages());
 
     return imported;
   }
 
   public static @NotNull Set<PsiPackage> getExplicitlyImportedPackages(DroolsFile droolsFile) {
-    Set<PsiPackage> imported = new HashSet<>();
-    JavaPsiFacade facade = JavaPsiFacade.getInstance(droolsFile.getProject());
-    for (DroolsImport droolsImport : droolsFile.getImports()) {
-      String importedPackage = droolsImport.getImportedPackage();
-      if (importedPackage != null) {
-        addNotNull(imported, facade.findPackage(importedPackage));
-      }
-    }
-    return imported;
+    return DroolsResolveContext.getInstance(droolsFile).getExplicitlyImportedPackages();
   }
 
   public static @Nullable PsiPackage getCurrentPsiPackage(DroolsFile droolsFile) {
-    String packageName = getCurrentPackage(droolsFile);
-    return !StringUtil.isEmptyOrSpaces(packageName) ? JavaPsiFacade.getInstance(droolsFile.getProject()).findPackage(packageName) : null;
+    return DroolsResolveContext.getInstance(droolsFile).getCurrentPackage();
   }
 
   public static @Nullable PsiPackage getJavaLangPackage(@NotNull Project project) {
@@ -695,16 +857,34 @@ public final class DroolsResolveUtil {
     return JavaPsiFacade.getInstance(project).findPackage("");
   }
 
-  public static @NotNull String getCurrentPackage(@Nullable DroolsFile droolsFile) {
-    if (droolsFile == null) return "";
-    DroolsPackageStatement packageStatement = droolsFile.getPackage();
-    return packageStatement != null ? packageStatement.getNamespace().getText() : "";
+  /**
+   * Changes whenever a Drools file or the project roots change.
+   */
+  public static Object @NotNull [] getDroolsModificationDependencies(@NotNull Project project) {
+    return new Object[]{PsiModificationTracker.getInstance(project).forLanguage(DroolsLanguage.INSTANCE),
+      VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS, ProjectRootManager.getInstance(project)};
   }
 
-  private static void addNotNull(@NotNull Set<PsiPackage> imported, @Nullable PsiPackage currentPackage) {
-    if (currentPackage != null) {
-      imported.add(currentPackage);
-    }
+  /**
+   * @return the name {@code processor} looks for or {@code null} if it collects all declarations
+   */
+  public static @Nullable String getNameHint(@NotNull PsiScopeProcessor processor, @NotNull ResolveState state) {
+    final NameHint nameHint = processor.getHint(NameHint.KEY);
+    return nameHint == null ? null : nameHint.getName(state);
+  }
+
+  public static boolean shouldProcess(@NotNull PsiScopeProcessor processor, @NotNull ElementClassHint.DeclarationKind kind) {
+    final ElementClassHint hint = processor.getHint(ElementClassHint.KEY);
+    return hint == null || hint.shouldProcess(kind);
+  }
+
+  public static boolean matchesNameHint(@Nullable String nameHint, @Nullable String name) {
+    return nameHint == null || nameHint.equals(name);
+  }
+
+  public static @NotNull String getCurrentPackage(@Nullable DroolsFile droolsFile) {
+    if (droolsFile == null) return "";
+    return droolsFile.getPackageName();
   }
 
   public static @NotNull Set<PsiVariable> getVariables(@NotNull PsiElement place) {
@@ -720,8 +900,7 @@ public final class DroolsResolveUtil {
   }
 
   public static @NotNull GlobalSearchScope getSearchScope(@NotNull DroolsFile droolsFile) {
-    final Module module = ModuleUtilCore.findModuleForPsiElement(droolsFile);
-    return module != null ? module.getModuleRuntimeScope(false) : GlobalSearchScope.allScope(droolsFile.getProject());
+    return DroolsResolveContext.getInstance(droolsFile).getSearchScope();
   }
 
   private static class MyReferenceResolvePsiElementProcessor extends CollectProcessor<PsiElement> {
@@ -761,7 +940,7 @@ public final class DroolsResolveUtil {
         }
         else {
           if (!(psiMethod instanceof DroolsPsiClassImpl.GeneratedLightMethod) && PropertyUtilBase.isSimplePropertyGetter(psiMethod)) {
-            final BeanProperty property = BeanProperty.createBeanProperty(psiMethod);
+            final BeanProperty property = DroolsBeanPropertiesCache.getInstance(psiMethod.getProject()).getProperty(psiMethod);
             if (property != null && myTextToResolve.equals(property.getName())) {
               getResults().add(property.getPsiElement());
             }
@@ -787,8 +966,9 @@ public final class DroolsResolveUtil {
     final Set<PsiElement> imported = new HashSet<>();
     CollectProcessor<PsiElement> processor = new CollectProcessor<>(imported);
 
+    final GlobalSearchScope scope = getSearchScope(droolsFile);
     for (PsiPackage aPackage : getImportedPackages(droolsFile, false)) {
-      for (PsiClass psiClass : aPackage.getClasses(getSearchScope(droolsFile))) {
+      for (PsiClass psiClass : aPackage.getClasses(scope)) {
         processor.process(psiClass);
       }
     }
@@ -799,20 +979,8 @@ public final class DroolsResolveUtil {
   }
 
   public static boolean processImportedClasses(@NotNull DroolsFile droolsFile, @NotNull Processor<? super PsiElement> processor) {
-    final DroolsImport[] imports = droolsFile.getImports();
-    JavaPsiFacade facade = JavaPsiFacade.getInstance(droolsFile.getProject());
-
-    for (DroolsImport droolsImport : imports) {
-      String className = droolsImport.getImportedClassName();
-      if (className != null) {
-        PsiClass psiClass = facade.findClass(className, getSearchScope(droolsFile));
-        if (psiClass != null) {
-          DroolsLightClass droolsLightClass = new DroolsLightClass(psiClass);
-          if (!processor.process(droolsLightClass)) {
-            return false;
-          }
-        }
-      }
+    for (PsiClass importedClass : DroolsResolveContext.getInstance(droolsFile).getImportedClasses()) {
+      if (!processor.process(importedClass)) return false;
     }
     return true;
   }
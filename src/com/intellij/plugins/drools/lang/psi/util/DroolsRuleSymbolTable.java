@@ -0,0 +1,135 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.util;
+
+import com.intellij.plugins.drools.DroolsLanguage;
+import com.intellij.plugins.drools.lang.psi.*;
+import com.intellij.plugins.drools.lang.psi.util.processors.DroolsLhsBindVariablesProcessor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypes;
+import com.intellij.psi.PsiVariable;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.containers.MultiMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Variables bound in the LHS of a rule and of the rules it extends. Built once per rule and looked up by name.
+ */
+public final class DroolsRuleSymbolTable {
+  private static final List<String> ACCUMULATE_INT_FUNCTIONS = Arrays.asList("sum", "average", "min", "max", "count");
+
+  private final MultiMap<String, PsiVariable> myPatternBinds = MultiMap.createLinkedSet();
+  private final MultiMap<String, PsiVariable> myOOPathBinds = MultiMap.createLinkedSet();
+
+  private DroolsRuleSymbolTable(@NotNull DroolsRuleStatement rule, @NotNull DroolsFile droolsFile) {
+    Set<DroolsRuleStatement> visited = new HashSet<>();
+    for (DroolsRuleStatement current = rule; current != null && visited.add(current); ) {
+      collectPatternBinds(current);
+      collectOOPathBinds(current);
+
+      final String parentRuleId = current.getParentRuleId();
+      current = parentRuleId != null ? DroolsLhsBindVariablesProcessor.findRuleById(parentRuleId, droolsFile) : null;
+    }
+  }
+
+  public static @NotNull DroolsRuleSymbolTable getInstance(@NotNull DroolsRuleStatement rule) {
+    return CachedValuesManager.getCachedValue(rule, () -> {
+      final PsiFile file = rule.getContainingFile();
+      final DroolsRuleSymbolTable table = new DroolsRuleSymbolTable(rule, (DroolsFile)file);
+      // parent rules may live in other files of the package
+      final Object dependency = rule.getParentRuleId() != null
+                                ? PsiModificationTracker.getInstance(rule.getProject()).forLanguage(DroolsLanguage.INSTANCE)
+                                : file;
+      return CachedValueProvider.Result.create(table, dependency);
+    });
+  }
+
+  /**
+   * @return pattern binds, unary assign binds and accumulate function bindings
+   */
+  public @NotNull Collection<PsiVariable> getPatternBinds() {
+    return Collections.unmodifiableCollection(myPatternBinds.values());
+  }
+
+  public @NotNull Collection<PsiVariable> getPatternBinds(@NotNull String name) {
+    return Collections.unmodifiableCollection(myPatternBinds.get(name));
+  }
+
+  /**
+   * @return OOPath binds and pattern binds
+   */
+  public @NotNull Collection<PsiVariable> getOOPathBinds() {
+    return Collections.unmodifiableCollection(myOOPathBinds.values());
+  }
+
+  public @NotNull Collection<PsiVariable> getOOPathBinds(@NotNull String name) {
+    return Collections.unmodifiableCollection(myOOPathBinds.get(name));
+  }
+
+  private void collectPatternBinds(@NotNull DroolsRuleStatement rule) {
+    rule.acceptChildren(new DroolsVisitor() {
+      @Override
+      public void visitLhsPatternBind(@NotNull DroolsLhsPatternBind patternBind) {
+        if (patternBind.getNameId() != null) {
+          add(myPatternBinds, patternBind);
+        }
+        patternBind.acceptChildren(this);
+      }
+
+      @Override
+      public void visitUnaryAssignExpr(@NotNull DroolsUnaryAssignExpr unaryAssignExpr) {
+        // f1 :  Fibonacci( s1 : sequence, value != -1 )  --> process "s1: sequence"
+        add(myPatternBinds, unaryAssignExpr);
+      }
+
+      @Override
+      public void visitAccumulateFunctionBinding(@NotNull DroolsAccumulateFunctionBinding functionBinding) {
+        final DroolsNameId identifier = functionBinding.getNameId();
+        PsiType psiType =
+          ACCUMULATE_INT_FUNCTIONS.contains(functionBinding.getAccumulateFunction().getFunctionName().getText())
+          ? PsiTypes.intType()
+          : PsiTypes.voidType();
+        add(myPatternBinds, new DroolsLightVariable(identifier.getText(), psiType, identifier.getNavigationElement()));
+      }
+
+      @Override
+      public void visitPsiCompositeElement(@NotNull DroolsPsiCompositeElement o) {
+        o.acceptChildren(this);
+      }
+    });
+  }
+
+  private void collectOOPathBinds(@NotNull DroolsRuleStatement rule) {
+    rule.acceptChildren(new DroolsVisitor() {
+      @Override
+      public void visitLhsOOPathBind(@NotNull DroolsLhsOOPathBind lhsOOPathBind) {
+        if (lhsOOPathBind.getNameId() != null) {
+          add(myOOPathBinds, lhsOOPathBind);
+        }
+        lhsOOPathBind.acceptChildren(this);
+      }
+
+      @Override
+      public void visitLhsPatternBind(@NotNull DroolsLhsPatternBind patternBind) {
+        if (patternBind.getNameId() != null) {
+          add(myOOPathBinds, patternBind);
+        }
+        patternBind.acceptChildren(this);
+      }
+
+      @Override
+      public void visitPsiCompositeElement(@NotNull DroolsPsiCompositeElement o) {
+        o.acceptChildren(this);
+      }
+    });
+  }
+
+  private static void add(@NotNull MultiMap<String, PsiVariable> binds, @NotNull PsiVariable variable) {
+    final String name = variable.getName();
+    if (name != null) binds.putValue(name, variable);
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.plugins.drools.lang.psi.util;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.plugins.drools.DroolsConstants;
+import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rule unit of a Drools file (from the {@code unit} statement stub) and the data sources it declares.
+ */
+@Service(Service.Level.PROJECT)
+public final class DroolsRuleUnitResolver {
+  private final Project myProject;
+
+  public DroolsRuleUnitResolver(@NotNull Project project) {
+    myProject = project;
+  }
+
+  public static @NotNull DroolsRuleUnitResolver getInstance(@NotNull Project project) {
+    return project.getService(DroolsRuleUnitResolver.class);
+  }
+
+  public @Nullable PsiClass getUnitClass(@NotNull DroolsFile droolsFile) {
+    return CachedValuesManager.getCachedValue(droolsFile, () -> CachedValueProvider.Result
+      .create(findUnitClass(droolsFile), droolsFile,
+              PsiModificationTracker.getInstance(myProject).forLanguage(JavaLanguage.INSTANCE),
+              ProjectRootManager.getInstance(myProject)));
+  }
+
+  /**
+   * @return {@code DataStore}/{@code DataStream} fields of {@code unitClass} mapped to their element types
+   */
+  public @NotNull Map<String, PsiType> getDataSources(@NotNull PsiClass unitClass) {
+    return CachedValuesManager.getCachedValue(unitClass, () -> CachedValueProvider.Result
+      .create(computeDataSources(unitClass), PsiModificationTracker.getInstance(myProject)));
+  }
+
+  private static @Nullable PsiClass findUnitClass(@NotNull DroolsFile droolsFile) {
+    final String name = droolsFile.getUnitName();
+    if (name == null) return null;
+
+    final DroolsResolveContext context = DroolsResolveContext.getInstance(droolsFile);
+    final PsiPackage currentPackage = context.getCurrentPackage();
+    if (currentPackage != null) {
+      final PsiClass[] classByShortName = currentPackage.findClassByShortName(name, context.getSearchScope());
+      if (classByShortName.length > 0) return classByShortName[0];
+    }
+    return JavaPsiFacade.getInstance(droolsFile.getProject()).findClass(name, context.getSearchScope());
+  }
+
+  private static @NotNull Map<String, PsiType> computeDataSources(@NotNull PsiClass unitClass) {
+    final Map<String, PsiType> dataSources = new LinkedHashMap<>();
+    for (PsiField field : unitClass.getAllFields()) {
+      if (field.getType() instanceof PsiClassType classType && isDataSource(classType.resolve())) {
+        final PsiType[] parameters = classType.getParameters();
+        if (parameters.length > 0) dataSources.put(field.getName(), parameters[0]);
+      }
+    }
+    return Collections.unmodifiableMap(dataSources);
+  }
+
+  private static boolean isDataSource(@Nullable PsiClass psiClass) {
+    if (psiClass == null) return false;
+    final String qualifiedName = psiClass.getQualifiedName();
+    return DroolsConstants.DATA_STORE_CLASS.equals(qualifiedName) || DroolsConstants.DATA_STREAM_CLASS.equals(qualifiedName);
+  }
+}
@@ -18,7 +18,7 @@ public final class MoveDroolsLightClassesInFileHandler extends MoveAllClassesInF
     if (psiClass instanceof DroolsLightClass) {
       final PsiClassOwner containingFile = (PsiClassOwner)psiClass.getContainingFile();
       final DroolsLightClass[] classes =
-        ContainerUtil.map2Array(containingFile.getClasses(), DroolsLightClass.class, aClass -> new DroolsLightClass(aClass));
+        ContainerUtil.map2Array(containingFile.getClasses(), DroolsLightClass.class, DroolsLightClass::getInstance);
       boolean all = true;
       for (DroolsLightClass aClass : classes) {
         if (ArrayUtil.find(elementsToMove, aClass) == -1) {
@@ -6,10 +6,13 @@ import com.intellij.plugins.drools.lang.psi.DroolsEnumDeclaration;
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
 import com.intellij.plugins.drools.lang.psi.DroolsTypeDeclaration;
 import com.intellij.plugins.drools.lang.psi.util.DroolsLightClass;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.ResolveState;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class DroolsDeclaredTypesProcessor implements DroolsDeclarationsProcessor {
   private static DroolsDeclaredTypesProcessor myInstance;
@@ -29,25 +32,32 @@ public final class DroolsDeclaredTypesProcessor implements DroolsDeclarationsPro
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, @NotNull DroolsFile droolsFile) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.CLASS)) return true;
+
+    final String name = DroolsResolveUtil.getNameHint(processor, state);
     DroolsDeclareStatement[] declarations = droolsFile.getDeclarations();
     for (DroolsDeclareStatement declaration : declarations) {
-      if (!processTypeDeclaration(processor, state, declaration)) return false;
-      if (!processEnumDeclaration(processor, state, declaration)) return false;
+      if (!processTypeDeclaration(processor, state, declaration, name)) return false;
+      if (!processEnumDeclaration(processor, state, declaration, name)) return false;
     }
     return true;
   }
 
-  private static boolean processTypeDeclaration(@NotNull PsiScopeProcessor processor, @NotNull ResolveState state, DroolsDeclareStatement declaration) {
+  private static boolean processTypeDeclaration(@NotNull PsiScopeProcessor processor, @NotNull ResolveState state,
+                                                DroolsDeclareStatement declaration, @Nullable String name) {
     DroolsTypeDeclaration typeDeclaration = declaration.getTypeDeclaration();
-    if (typeDeclaration != null  && !processor.execute(new DroolsLightClass(typeDeclaration), state)) {
+    if (typeDeclaration != null && DroolsResolveUtil.matchesNameHint(name, typeDeclaration.getName())
+        && !processor.execute(DroolsLightClass.getInstance(typeDeclaration), state)) {
       return false;
     }
     return true;
   }
 
-  private static boolean processEnumDeclaration(@NotNull PsiScopeProcessor processor, @NotNull ResolveState state, DroolsDeclareStatement declaration) {
+  private static boolean processEnumDeclaration(@NotNull PsiScopeProcessor processor, @NotNull ResolveState state,
+                                                DroolsDeclareStatement declaration, @Nullable String name) {
     DroolsEnumDeclaration enumDeclaration = declaration.getEnumDeclaration();
-    if (enumDeclaration != null  && !processor.execute(new DroolsLightClass(enumDeclaration), state)) {
+    if (enumDeclaration != null && DroolsResolveUtil.matchesNameHint(name, enumDeclaration.getName())
+        && !processor.execute(DroolsLightClass.getInstance(enumDeclaration), state)) {
       return false;
     }
     return true;
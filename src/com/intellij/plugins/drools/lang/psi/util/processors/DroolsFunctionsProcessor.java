@@ -4,10 +4,16 @@ package com.intellij.plugins.drools.lang.psi.util.processors;
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
 import com.intellij.plugins.drools.lang.psi.DroolsFunctionLightMethodBuilder;
 import com.intellij.plugins.drools.lang.psi.DroolsFunctionStatement;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsFunctionNameIndex;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.ResolveState;
 import com.intellij.psi.impl.light.LightMethodBuilder;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import org.jetbrains.annotations.NotNull;
 
 public final class DroolsFunctionsProcessor implements DroolsDeclarationsProcessor {
@@ -27,13 +33,19 @@ public final class DroolsFunctionsProcessor implements DroolsDeclarationsProcess
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, @NotNull DroolsFile droolsFile) {
-    for (final DroolsFunctionStatement functionStatement : droolsFile.getFunctions()) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.METHOD)) return true;
+
+    final String name = DroolsResolveUtil.getNameHint(processor, state);
+    for (final DroolsFunctionStatement functionStatement : DroolsResolveUtil.getPackageMembers(droolsFile, droolsFile.getFunctions(),
+                                                                                              DroolsFunctionNameIndex.KEY,
+                                                                                              DroolsFunctionStatement.class, name)) {
       if (!processor.execute(functionStatement, state)) return false;
     }
     return true;
   }
 
   public static LightMethodBuilder createLightMethodBuilder(final @NotNull DroolsFunctionStatement function) {
-    return new DroolsFunctionLightMethodBuilder(function);
+    return CachedValuesManager.getCachedValue(function, () -> CachedValueProvider.Result
+      .create(new DroolsFunctionLightMethodBuilder(function), PsiModificationTracker.getInstance(function.getProject())));
   }
 }
@@ -2,9 +2,12 @@
 package com.intellij.plugins.drools.lang.psi.util.processors;
 
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.plugins.drools.lang.psi.DroolsGlobalStatement;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsGlobalNameIndex;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiVariable;
 import com.intellij.psi.ResolveState;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import org.jetbrains.annotations.NotNull;
 
@@ -25,9 +28,13 @@ public final class DroolsGlobalVariablesProcessor implements DroolsDeclarationsP
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, @NotNull DroolsFile droolsFile) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.VARIABLE)) return true;
 
-    for (PsiVariable psiVariable : droolsFile.getGlobalVariables()) {
-      if (!processor.execute(psiVariable, state)) return false;
+    final String name = DroolsResolveUtil.getNameHint(processor, state);
+    for (DroolsGlobalStatement globalStatement : DroolsResolveUtil.getPackageMembers(droolsFile, droolsFile.getGlobalVariables(),
+                                                                                    DroolsGlobalNameIndex.KEY,
+                                                                                    DroolsGlobalStatement.class, name)) {
+      if (!processor.execute(globalStatement, state)) return false;
     }
     return true;
   }
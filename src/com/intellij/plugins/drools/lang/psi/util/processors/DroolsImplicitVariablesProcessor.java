@@ -5,7 +5,9 @@ import com.intellij.openapi.project.Project;
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
 import com.intellij.plugins.drools.lang.psi.util.DroolsLightClass;
 import com.intellij.plugins.drools.lang.psi.util.DroolsLightVariable;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.*;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.CachedValueProvider;
@@ -51,7 +53,7 @@ public final class DroolsImplicitVariablesProcessor implements DroolsDeclaration
           if (aClass != null) {
             final String varName = entry.getKey();
             lightVariables.add(new DroolsLightVariable(varName, JavaPsiFacade.getInstance(project).getElementFactory()
-              .createType(new DroolsLightClass(aClass)), droolsFile));
+              .createType(DroolsLightClass.getInstance(aClass)), droolsFile));
             break;
           }
         }
@@ -59,8 +61,12 @@ public final class DroolsImplicitVariablesProcessor implements DroolsDeclaration
       return CachedValueProvider.Result.createSingleDependency(lightVariables, droolsFile);
     });
 
+    final boolean processVariables = DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.VARIABLE);
+    final String name = DroolsResolveUtil.getNameHint(processor, state);
     for (DroolsLightVariable lightVariable : implicitVars) {
-      if (!processor.execute(lightVariable, state)) return false;
+      if (processVariables && DroolsResolveUtil.matchesNameHint(name, lightVariable.getName())) {
+        if (!processor.execute(lightVariable, state)) return false;
+      }
 
       if (lightVariable.getName().equals("drools")) {
         final PsiClass psiClass = ((PsiClassType)lightVariable.getType()).resolve();
@@ -1,16 +1,17 @@
 // Copyright 2000-2023 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.intellij.plugins.drools.lang.psi.util.processors;
 
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
-import com.intellij.plugins.drools.lang.psi.DroolsImport;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveContext;
 import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
-import com.intellij.psi.*;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.ResolveState;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
-import com.intellij.psi.search.GlobalSearchScope;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
+import java.util.List;
 
 public final class DroolsImportedFunctionsProcessor implements DroolsDeclarationsProcessor {
   private static DroolsImportedFunctionsProcessor myInstance;
@@ -30,27 +31,17 @@ public final class DroolsImportedFunctionsProcessor implements DroolsDeclaration
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, @NotNull DroolsFile droolsFile) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.METHOD)) return true;
+
+    final String name = DroolsResolveUtil.getNameHint(processor, state);
     for (PsiMethod importedFunction : getImportedFunctions(droolsFile)) {
+      if (!DroolsResolveUtil.matchesNameHint(name, importedFunction.getName())) continue;
       if (!processor.execute(importedFunction, state)) return false;
     }
     return true;
   }
 
-  public static PsiMethod[] getImportedFunctions(@NotNull DroolsFile droolsFile) {
-    final GlobalSearchScope scope = DroolsResolveUtil.getSearchScope(droolsFile);
-    for (DroolsImport anImport : Arrays.stream(droolsFile.getImports()).filter(anImport -> anImport.isFunction()).toList()) {
-      final String importedFunction = anImport.getImportedFunction();
-      if (StringUtil.isNotEmpty(importedFunction)) {
-        final String className = importedFunction.substring(0, importedFunction.lastIndexOf("."));
-        final String methodName = StringUtil.getShortName(importedFunction);
-        if (StringUtil.isNotEmpty(className) && StringUtil.isNotEmpty(methodName)) {
-          PsiClass psiClass = JavaPsiFacade.getInstance(droolsFile.getProject()).findClass(className, scope);
-          if (psiClass != null) {
-            return psiClass.findMethodsByName(methodName, true);
-          }
-        }
-      }
-    }
-    return PsiMethod.EMPTY_ARRAY;
+  public static @NotNull List<PsiMethod> getImportedFunctions(@NotNull DroolsFile droolsFile) {
+    return DroolsResolveContext.getInstance(droolsFile).getImportedFunctions();
   }
 }
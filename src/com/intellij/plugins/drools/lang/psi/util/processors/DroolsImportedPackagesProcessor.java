@@ -8,6 +8,7 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiPackage;
 import com.intellij.psi.ResolveState;
 import com.intellij.psi.scope.PsiScopeProcessor;
+import com.intellij.psi.search.GlobalSearchScope;
 import org.jetbrains.annotations.NotNull;
 
 public final class DroolsImportedPackagesProcessor implements DroolsDeclarationsProcessor {
@@ -41,10 +42,11 @@ public final class DroolsImportedPackagesProcessor implements DroolsDeclarations
     if (javaLangPackage != null) {
       if (!javaLangPackage.processDeclarations(processor, state, lastParent, place)) return false;
     }
+    final GlobalSearchScope scope = DroolsResolveUtil.getSearchScope(droolsFile);
     for (PsiPackage psiPackage : DroolsResolveUtil.getExplicitlyImportedPackages(droolsFile)) {
       if (psiPackage != null) {
         if (!psiPackage.processDeclarations(processor, state, lastParent, place)) return false;
-        for (PsiClass aClass : psiPackage.getClasses(DroolsResolveUtil.getSearchScope(droolsFile))) {
+        for (PsiClass aClass : psiPackage.getClasses(scope)) {
           if (!aClass.processDeclarations(processor, state, lastParent, place)) return false;
         }
       }
@@ -1,10 +1,15 @@
 // Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
 package com.intellij.plugins.drools.lang.psi.util.processors;
 
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.lang.psi.*;
-import com.intellij.plugins.drools.lang.psi.util.DroolsLightVariable;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsRuleNameIndex;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
+import com.intellij.plugins.drools.lang.psi.util.DroolsRuleSymbolTable;
 import com.intellij.psi.*;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
@@ -14,7 +19,6 @@ import java.util.*;
 
 public final class DroolsLhsBindVariablesProcessor implements DroolsDeclarationsProcessor {
   private static DroolsLhsBindVariablesProcessor myInstance;
-  private static final List<String> ACCUMULATE_INT_FUNCTIONS = Arrays.asList("sum", "average", "min", "max", "count");
 
   private DroolsLhsBindVariablesProcessor() {
   }
@@ -31,105 +35,56 @@ public final class DroolsLhsBindVariablesProcessor implements DroolsDeclarations
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, final @NotNull DroolsFile droolsFile) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.VARIABLE)) return true;
 
-    final Set<PsiVariable> binds = getPatternBinds(place);
-    for (PsiVariable bind : binds) {
+    for (PsiVariable bind : getPatternBinds(place, DroolsResolveUtil.getNameHint(processor, state))) {
       if (!processor.execute(bind, state)) return false;
     }
     return true;
   }
 
   public static Set<PsiVariable> getPatternBinds(final @NotNull PsiElement psiElement) {
-    final PsiFile file = psiElement.getContainingFile();
-    return file instanceof DroolsFile
-           ? getPatternBinds(psiElement, (DroolsFile)file, PsiTreeUtil.getParentOfType(psiElement, DroolsRuleStatement.class))
-           : Collections.emptySet();
+    return getPatternBinds(psiElement, null);
   }
 
-  private static Set<PsiVariable> getPatternBinds(final @NotNull PsiElement psiElement,
-                                                  final @NotNull DroolsFile droolsFile,
-                                                  final @Nullable DroolsRuleStatement droolsRule) {
-    return getPatternBinds(psiElement, droolsFile, droolsRule, new HashSet<>());
-  }
-
-  private static Set<PsiVariable> getPatternBinds(final @NotNull PsiElement psiElement,
-                                                  final @NotNull DroolsFile droolsFile,
-                                                  final @Nullable DroolsRuleStatement droolsRule,
-                                                  Set<DroolsRuleStatement> visited) {
-    if (droolsRule == null) return Collections.emptySet();
-    visited.add(droolsRule);
-
-    final Set<PsiVariable> binds = getVariables(psiElement, droolsRule);
-
-    final DroolsParentRule parentRuleRef = droolsRule.getParentRule();
-    if (parentRuleRef != null) {
-      final DroolsRuleStatement parentRule = findRuleById(parentRuleRef.getStringId(), droolsFile);
-      if (parentRule != null && !visited.contains(parentRule)) {
-        binds.addAll(getPatternBinds(psiElement, droolsFile, parentRule, visited));
-      }
-    }
-
+  /**
+   * @param name bind name to look up or {@code null} to collect all binds visible from {@code psiElement}
+   */
+  public static Set<PsiVariable> getPatternBinds(final @NotNull PsiElement psiElement, @Nullable String name) {
+    final DroolsRuleStatement droolsRule = PsiTreeUtil.getParentOfType(psiElement, DroolsRuleStatement.class);
+    if (droolsRule == null || !(psiElement.getContainingFile() instanceof DroolsFile)) return Collections.emptySet();
+
+    final DroolsRuleSymbolTable symbolTable = DroolsRuleSymbolTable.getInstance(droolsRule);
+    final Set<PsiVariable> binds = new LinkedHashSet<>(name != null ? symbolTable.getPatternBinds(name) : symbolTable.getPatternBinds());
+    // "s1" of "s1 : sequence" is not visible inside its own expression
+    final DroolsUnaryAssignExpr parentUnaryAssignExpr = PsiTreeUtil.getParentOfType(psiElement, DroolsUnaryAssignExpr.class);
+    if (parentUnaryAssignExpr != null) binds.remove(parentUnaryAssignExpr);
     return binds;
   }
 
-  private static Set<PsiVariable> getVariables(final PsiElement psiElement, DroolsRuleStatement droolsRule) {
-    final Set<PsiVariable> binds = new HashSet<>();
-
-    droolsRule.acceptChildren(new DroolsVisitor() {
-      @Override
-      public void visitLhsPatternBind(@NotNull DroolsLhsPatternBind patternBind) {
-        DroolsNameId bindIdentifier = patternBind.getNameId();
-        if (bindIdentifier != null) {
-          String id = bindIdentifier.getText();
-          if (id != null) {
-            binds.add(patternBind);
-          }
-        }
-        patternBind.acceptChildren(this);
-      }
-
-      @Override
-      public void visitUnaryAssignExpr(@NotNull DroolsUnaryAssignExpr unaryAssignExpr) {
-        // f1 :  Fibonacci( s1 : sequence, value != -1 )  --> process "s1: sequence"
-        final DroolsNameId identifier = unaryAssignExpr.getNameId();
-        String id = identifier.getText();
-        if (id != null) {
-          final DroolsUnaryAssignExpr parentUnaryAssignExpr = PsiTreeUtil.getParentOfType(psiElement, DroolsUnaryAssignExpr.class);
-          if (!unaryAssignExpr.equals(parentUnaryAssignExpr)) {
-            binds.add(unaryAssignExpr);
-          }
-        }
-      }
-
-      @Override
-      public void visitAccumulateFunctionBinding(@NotNull DroolsAccumulateFunctionBinding functionBinding) {
-        final DroolsNameId identifier = functionBinding.getNameId();
-        String id = identifier.getText();
-        if (id != null) {
-          PsiType psiType =
-            ACCUMULATE_INT_FUNCTIONS.contains(functionBinding.getAccumulateFunction().getFunctionName().getText())
-            ? PsiTypes.intType()
-            : PsiTypes.voidType();
-          binds.add(new DroolsLightVariable(id, psiType, identifier.getNavigationElement()));
-        }
-      }
-
-      @Override
-      public void visitPsiCompositeElement(@NotNull DroolsPsiCompositeElement o) {
-        o.acceptChildren(this);
-      }
-    });
-    return binds;
+  public static @Nullable DroolsRuleStatement findRuleById(@Nullable DroolsStringId id, @NotNull DroolsFile droolsFile) {
+    return id == null ? null : findRuleById(id.getText(), droolsFile);
   }
 
-  public static @Nullable DroolsRuleStatement findRuleById(@Nullable DroolsStringId id, @NotNull DroolsFile droolsFile) {
-    if (id != null) {
-      final String ruleIdText = id.getText();
-      if (!StringUtil.isEmpty(ruleIdText)) {
-        for (DroolsRuleStatement ruleStatement : droolsFile.getRules()) {
-          if (ruleIdText.equals(ruleStatement.getRuleName().getStringId().getText())) return ruleStatement;
-        }
+  /**
+   * Finds a rule of the file's package by its name, rules of the given file are preferred.
+   */
+  public static @Nullable DroolsRuleStatement findRuleById(@Nullable String ruleId, @NotNull DroolsFile droolsFile) {
+    if (StringUtil.isEmpty(ruleId)) return null;
+
+    final Project project = droolsFile.getProject();
+    if (!DumbService.isDumb(project)) {
+      final Collection<DroolsRuleStatement> rules = DroolsRuleNameIndex.getRules(droolsFile.getPackageName(), ruleId, project,
+                                                                                DroolsResolveUtil.getSearchScope(droolsFile));
+      for (DroolsRuleStatement rule : rules) {
+        if (droolsFile.equals(rule.getContainingFile())) return rule;
       }
+      if (!rules.isEmpty()) return rules.iterator().next();
+    }
+
+    final String ruleName = StringUtil.unquoteString(ruleId);
+    for (DroolsRuleStatement ruleStatement : droolsFile.getRules()) {
+      if (ruleName.equals(StringUtil.unquoteString(ruleStatement.getRuleId()))) return ruleStatement;
     }
     return null;
   }
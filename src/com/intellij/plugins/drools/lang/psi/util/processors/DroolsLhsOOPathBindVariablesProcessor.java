@@ -2,21 +2,21 @@
 package com.intellij.plugins.drools.lang.psi.util.processors;
 
 import com.intellij.plugins.drools.lang.psi.*;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
+import com.intellij.plugins.drools.lang.psi.util.DroolsRuleSymbolTable;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiVariable;
 import com.intellij.psi.ResolveState;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
-import static com.intellij.plugins.drools.lang.psi.util.processors.DroolsLhsBindVariablesProcessor.findRuleById;
-
 public final class DroolsLhsOOPathBindVariablesProcessor implements DroolsDeclarationsProcessor {
   private static DroolsLhsOOPathBindVariablesProcessor myInstance;
 
@@ -35,80 +35,26 @@ public final class DroolsLhsOOPathBindVariablesProcessor implements DroolsDeclar
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, final @NotNull DroolsFile droolsFile) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.VARIABLE)) return true;
 
-    final Set<PsiVariable> ooPathBinds = getOOPathBinds(place);
-    for (PsiVariable bind : ooPathBinds) {
+    for (PsiVariable bind : getOOPathBinds(place, DroolsResolveUtil.getNameHint(processor, state))) {
       if (!processor.execute(bind, state)) return false;
     }
     return true;
   }
 
   public static Set<PsiVariable> getOOPathBinds(final @NotNull PsiElement psiElement) {
-    final PsiFile file = psiElement.getContainingFile();
-    return file instanceof DroolsFile
-           ? getOOPathBinds(psiElement, (DroolsFile)file, PsiTreeUtil.getParentOfType(psiElement, DroolsRuleStatement.class))
-           : Collections.emptySet();
-  }
-
-  private static Set<PsiVariable> getOOPathBinds(final @NotNull PsiElement psiElement,
-                                                 final @NotNull DroolsFile droolsFile,
-                                                 final @Nullable DroolsRuleStatement droolsRule) {
-    return getOOPathBinds(psiElement, droolsFile, droolsRule, new HashSet<>());
+    return getOOPathBinds(psiElement, null);
   }
 
-  private static Set<PsiVariable> getOOPathBinds(final @NotNull PsiElement psiElement,
-                                                 final @NotNull DroolsFile droolsFile,
-                                                 final @Nullable DroolsRuleStatement droolsRule,
-                                                 Set<DroolsRuleStatement> visited) {
-    if (droolsRule == null) return Collections.emptySet();
-    visited.add(droolsRule);
-
-    final Set<PsiVariable> binds = getVariables(psiElement, droolsRule);
-
-    final DroolsParentRule parentRuleRef = droolsRule.getParentRule();
-    if (parentRuleRef != null) {
-      final DroolsRuleStatement parentRule = findRuleById(parentRuleRef.getStringId(), droolsFile);
-      if (parentRule != null && !visited.contains(parentRule)) {
-        binds.addAll(getOOPathBinds(psiElement, droolsFile, parentRule, visited));
-      }
-    }
-
-    return binds;
-  }
-
-  private static Set<PsiVariable> getVariables(final PsiElement psiElement, DroolsRuleStatement droolsRule) {
-    final Set<PsiVariable> binds = new HashSet<>();
-
-    droolsRule.acceptChildren(new DroolsVisitor() {
-      @Override
-      public void visitLhsOOPathBind(@NotNull DroolsLhsOOPathBind lhsOOPathBind) {
-        DroolsNameId bindIdentifier = lhsOOPathBind.getNameId();
-        if (bindIdentifier != null) {
-          String id = bindIdentifier.getText();
-          if (id != null) {
-            binds.add(lhsOOPathBind);
-          }
-        }
-        lhsOOPathBind.acceptChildren(this);
-      }
-
-      @Override
-      public void visitLhsPatternBind(@NotNull DroolsLhsPatternBind patternBind) {
-        DroolsNameId bindIdentifier = patternBind.getNameId();
-        if (bindIdentifier != null) {
-          String id = bindIdentifier.getText();
-          if (id != null) {
-            binds.add(patternBind);
-          }
-        }
-        patternBind.acceptChildren(this);
-      }
+  /**
+   * @param name bind name to look up or {@code null} to collect all binds visible from {@code psiElement}
+   */
+  public static Set<PsiVariable> getOOPathBinds(final @NotNull PsiElement psiElement, @Nullable String name) {
+    final DroolsRuleStatement droolsRule = PsiTreeUtil.getParentOfType(psiElement, DroolsRuleStatement.class);
+    if (droolsRule == null || !(psiElement.getContainingFile() instanceof DroolsFile)) return Collections.emptySet();
 
-      @Override
-      public void visitPsiCompositeElement(@NotNull DroolsPsiCompositeElement o) {
-        o.acceptChildren(this);
-      }
-    });
-    return binds;
+    final DroolsRuleSymbolTable symbolTable = DroolsRuleSymbolTable.getInstance(droolsRule);
+    return new LinkedHashSet<>(name != null ? symbolTable.getOOPathBinds(name) : symbolTable.getOOPathBinds());
   }
 }
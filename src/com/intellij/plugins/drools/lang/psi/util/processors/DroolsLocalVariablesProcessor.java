@@ -4,7 +4,9 @@ package com.intellij.plugins.drools.lang.psi.util.processors;
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
 import com.intellij.plugins.drools.lang.psi.DroolsJavaRhsStatement;
 import com.intellij.plugins.drools.lang.psi.DroolsSimpleRhsStatement;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.*;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
@@ -29,7 +31,11 @@ public final class DroolsLocalVariablesProcessor implements DroolsDeclarationsPr
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, @NotNull DroolsFile droolsFile) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.VARIABLE)) return true;
+
+    final String name = DroolsResolveUtil.getNameHint(processor, state);
     for (PsiVariable psiVariable : getLocalVariables(place)) {
+      if (!DroolsResolveUtil.matchesNameHint(name, psiVariable.getName())) continue;
       if (!processor.execute(psiVariable, state)) return false;
     }
     return true;
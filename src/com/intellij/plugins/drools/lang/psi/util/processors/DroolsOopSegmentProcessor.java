@@ -4,13 +4,14 @@ package com.intellij.plugins.drools.lang.psi.util.processors;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
 import com.intellij.plugins.drools.lang.psi.DroolsLhsOOPSegment;
+import com.intellij.plugins.drools.lang.psi.util.DroolsBeanPropertiesCache;
 import com.intellij.plugins.drools.lang.psi.util.DroolsBeanPropertyLightVariable;
 import com.intellij.plugins.drools.lang.psi.util.DroolsLightVariable;
 import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.*;
 import com.intellij.psi.impl.beanProperties.BeanProperty;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
-import com.intellij.psi.util.PropertyUtilBase;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
@@ -35,27 +36,26 @@ public final class DroolsOopSegmentProcessor implements DroolsDeclarationsProces
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, final @NotNull DroolsFile droolsFile) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.VARIABLE)) return true;
 
     final DroolsLhsOOPSegment oopSegment = PsiTreeUtil.getParentOfType(place, DroolsLhsOOPSegment.class);
     if (oopSegment != null) {
       final String name = oopSegment.getLhsOOPathSegmentId().getName();
-      if (StringUtil.isNotEmpty(name)) {
+      if (StringUtil.isNotEmpty(name) && DroolsResolveUtil.matchesNameHint(DroolsResolveUtil.getNameHint(processor, state), name)) {
         final PsiClass unitClass = DroolsResolveUtil.getUnitClass(droolsFile);
         if (unitClass != null) {
-          for (PsiMethod psiMethod : PropertyUtilBase.getAllProperties(unitClass, false, true).values()) {
-            final BeanProperty beanProperty = BeanProperty.createBeanProperty(psiMethod);
-            if (beanProperty != null && name.equals(beanProperty.getName())) {
-              final PsiType dataStoreClass = PsiUtil.substituteTypeParameter(beanProperty.getPropertyType(), DATA_STORE_CLASS, 0, false);
-              if (dataStoreClass != null) {
-                if (!processor.execute(new DroolsLightVariable(beanProperty.getName(), dataStoreClass, beanProperty.getPsiElement()),
-                                       state)) {
-                  return false;
-                }
-              }
-              else {
-                if (!processor.execute(new DroolsBeanPropertyLightVariable(beanProperty), state)) return false;
+          final BeanProperty beanProperty = DroolsBeanPropertiesCache.getInstance(droolsFile.getProject()).getProperty(unitClass, name);
+          if (beanProperty != null) {
+            final PsiType dataStoreClass = PsiUtil.substituteTypeParameter(beanProperty.getPropertyType(), DATA_STORE_CLASS, 0, false);
+            if (dataStoreClass != null) {
+              if (!processor.execute(new DroolsLightVariable(beanProperty.getName(), dataStoreClass, beanProperty.getPsiElement()),
+                                     state)) {
+                return false;
               }
             }
+            else {
+              if (!processor.execute(new DroolsBeanPropertyLightVariable(beanProperty), state)) return false;
+            }
           }
         }
       }
@@ -7,7 +7,9 @@ import com.intellij.plugins.drools.lang.psi.DroolsJavaRhsStatement;
 import com.intellij.plugins.drools.lang.psi.DroolsSimpleRhsStatement;
 import com.intellij.plugins.drools.lang.psi.util.DroolsLightClass;
 import com.intellij.plugins.drools.lang.psi.util.DroolsLightVariable;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.*;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
 import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
@@ -34,7 +36,11 @@ public final class DroolsRhsImplicitAssignExpressionsProcessor implements Drools
                                 @NotNull ResolveState state,
                                 PsiElement lastParent,
                                 @NotNull PsiElement place, @NotNull DroolsFile droolsFile) {
+    if (!DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.VARIABLE)) return true;
+
+    final String name = DroolsResolveUtil.getNameHint(processor, state);
     for (DroolsLightVariable psiVariable : getLocalVariables(place, droolsFile)) {
+      if (!DroolsResolveUtil.matchesNameHint(name, psiVariable.getName())) continue;
       if (!processor.execute(psiVariable, state)) return false;
     }
     return true;
@@ -77,7 +83,7 @@ public final class DroolsRhsImplicitAssignExpressionsProcessor implements Drools
                 if (type instanceof PsiClassType) {
                   final PsiClass resolve = ((PsiClassType)type).resolve();
                   if (resolve != null) {
-                    type = JavaPsiFacade.getInstance(element.getProject()).getElementFactory().createType(new DroolsLightClass(resolve));
+                    type = JavaPsiFacade.getInstance(element.getProject()).getElementFactory().createType(DroolsLightClass.getInstance(resolve));
                   }
                 }
                 if (type != null) {
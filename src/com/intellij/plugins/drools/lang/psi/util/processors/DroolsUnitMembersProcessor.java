@@ -2,6 +2,7 @@
 package com.intellij.plugins.drools.lang.psi.util.processors;
 
 import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.plugins.drools.lang.psi.util.DroolsBeanPropertiesCache;
 import com.intellij.plugins.drools.lang.psi.util.DroolsBeanPropertyLightVariable;
 import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
 import com.intellij.psi.PsiClass;
@@ -9,10 +10,13 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.ResolveState;
 import com.intellij.psi.impl.beanProperties.BeanProperty;
+import com.intellij.psi.scope.ElementClassHint;
 import com.intellij.psi.scope.PsiScopeProcessor;
-import com.intellij.psi.util.PropertyUtilBase;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+
 public final class DroolsUnitMembersProcessor implements DroolsDeclarationsProcessor {
   private static DroolsUnitMembersProcessor myInstance;
 
@@ -33,12 +37,17 @@ public final class DroolsUnitMembersProcessor implements DroolsDeclarationsProce
                                 @NotNull PsiElement place, final @NotNull DroolsFile droolsFile) {
     final PsiClass unitClass = DroolsResolveUtil.getUnitClass(droolsFile);
     if (unitClass != null) {
-      for (PsiMethod method : unitClass.getAllMethods()) {
-        if (!processor.execute(method, state)) return false;
+      final String name = DroolsResolveUtil.getNameHint(processor, state);
+      if (DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.METHOD)) {
+        for (PsiMethod method : name != null ? unitClass.findMethodsByName(name, true) : unitClass.getAllMethods()) {
+          if (!processor.execute(method, state)) return false;
+        }
       }
-      for (PsiMethod psiMethod : PropertyUtilBase.getAllProperties(unitClass, false, true).values()) {
-        final BeanProperty beanProperty = BeanProperty.createBeanProperty(psiMethod);
-        if (beanProperty != null && !processor.execute(new DroolsBeanPropertyLightVariable(beanProperty), state)) return false;
+      if (DroolsResolveUtil.shouldProcess(processor, ElementClassHint.DeclarationKind.VARIABLE)) {
+        final Map<String, BeanProperty> properties = DroolsBeanPropertiesCache.getInstance(droolsFile.getProject()).getProperties(unitClass);
+        for (BeanProperty beanProperty : name != null ? ContainerUtil.createMaybeSingletonList(properties.get(name)) : properties.values()) {
+          if (!processor.execute(new DroolsBeanPropertyLightVariable(beanProperty), state)) return false;
+        }
       }
     }
 
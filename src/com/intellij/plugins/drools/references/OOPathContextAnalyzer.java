@@ -1,6 +1,9 @@
 package com.intellij.plugins.drools.references;
 
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
+import com.intellij.plugins.drools.lang.psi.util.DroolsRuleUnitResolver;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTypesUtil;
 import org.jetbrains.annotations.NotNull;
@@ -43,8 +46,8 @@ public class OOPathContextAnalyzer {
             LOG.info("Property path: " + pathInfo.propertyPath);
 
             // Find the Rule Unit class
-            PsiFile file = position.getContainingFile();
-            PsiClass ruleUnit = RuleUnitResolver.findRuleUnitClass(file);
+            PsiFile file = position.getContainingFile().getOriginalFile();
+            PsiClass ruleUnit = file instanceof DroolsFile droolsFile ? DroolsResolveUtil.getUnitClass(droolsFile) : null;
             if (ruleUnit == null) {
                 LOG.warn("Rule Unit not found");
                 return null;
@@ -250,7 +253,7 @@ public class OOPathContextAnalyzer {
             @NotNull String fieldName) {
         try {
             // Get all data sources
-            var dataSources = RuleUnitResolver.getDataSources(ruleUnit);
+            var dataSources = DroolsRuleUnitResolver.getInstance(ruleUnit.getProject()).getDataSources(ruleUnit);
             PsiType type = dataSources.get(fieldName);
 
             if (type == null) {
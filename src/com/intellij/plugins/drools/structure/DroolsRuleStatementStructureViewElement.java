@@ -20,7 +20,7 @@ public  class DroolsRuleStatementStructureViewElement extends DroolsStructureVie
 
   @Override
   public String getPresentableText() {
-    return ((DroolsRuleStatement)getValue()).getRuleName().getText();
+    return ((DroolsRuleStatement)getValue()).getRuleId();
   }
 
   @Override
@@ -0,0 +1,154 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.plugins.drools.DroolsLanguage;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.impl.DebugUtil;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.IReparseableElementTypeBase;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class DroolsIncrementalReparseTest extends DroolsLightTestCase {
+  private static final String TEXT = """
+    package org.example;
+
+    function int twice(int x) {
+      return x * 2<function>;
+    }
+
+    rule first<name>
+    when
+      $s : String(length > <lhs>)
+    then
+      System.out.println($s<rhs>);
+    end
+
+    rule second
+    when
+      Integer()
+    then
+    end
+    """;
+
+  @Override
+  protected String getTestDirectory() {
+    return "parser";
+  }
+
+  public void testTypingInRuleCondition() {
+    doTest("<lhs>", "1", DroolsTokenTypes.RULE_STATEMENT, true);
+  }
+
+  public void testTypingRuleKeywordInsideRule() {
+    doTest("<lhs>", "0)\nend\nrule third when String(length > ");
+  }
+
+  public void testTypingUnbalancedParenthesis() {
+    doTest("<lhs>", "(");
+  }
+
+  public void testTypingSemicolonInRuleCondition() {
+    doTest("<lhs>", "0;");
+  }
+
+  public void testTypingSecondThenInRuleCondition() {
+    doTest("<lhs>", "0)\nthen\n  String(");
+  }
+
+  public void testTypingIncompleteRuleAttribute() {
+    doTest("<name>", " salience");
+  }
+
+  public void testTypingIncompleteRuleExtends() {
+    doTest("<name>", " extends");
+  }
+
+  public void testTypingInConsequence() {
+    doTest("<rhs>", ".length()", DroolsTokenTypes.JAVA_STATEMENT, true);
+  }
+
+  public void testTypingConsequenceKeyword() {
+    doTest("<rhs>", ");\ninsert(new Object()", DroolsTokenTypes.JAVA_STATEMENT, false);
+  }
+
+  public void testTypingUnterminatedCommentInConsequence() {
+    doTest("<rhs>", "/*", DroolsTokenTypes.JAVA_STATEMENT, false);
+  }
+
+  public void testTypingUnterminatedStringInConsequence() {
+    doTest("<rhs>", " + \"suffix", DroolsTokenTypes.JAVA_STATEMENT, false);
+  }
+
+  public void testTypingInFunctionBody() {
+    doTest("<function>", " + 1", DroolsTokenTypes.BLOCK_EXPRESSION, true);
+  }
+
+  public void testTypingBraceInFunctionBody() {
+    doTest("<function>", "; }\n{ x++", DroolsTokenTypes.BLOCK_EXPRESSION, false);
+  }
+
+  public void testTypingUnterminatedCommentInFunctionBody() {
+    doTest("<function>", "; /*", DroolsTokenTypes.BLOCK_EXPRESSION, false);
+  }
+
+  public void testTypingUnterminatedCharInFunctionBody() {
+    doTest("<function>", " + '\\'", DroolsTokenTypes.BLOCK_EXPRESSION, false);
+  }
+
+  private void doTest(String caretMarker, String typed) {
+    doTest(caretMarker, typed, null, false);
+  }
+
+  /**
+   * @param chunkType type of the element around the caret that is expected to be reparsed in place, or not if {@code !inPlace}.
+   *                  In place, all other statements, and the statement containing a reparsed chunk, keep their AST nodes.
+   */
+  private void doTest(String caretMarker, String typed, @Nullable IElementType chunkType, boolean inPlace) {
+    final String text = TEXT.replace(caretMarker, "<caret>").replaceAll("<(name|lhs|rhs|function)>", "");
+    myFixture.configureByText("reparse.drl", text);
+    final PsiFile file = myFixture.getFile();
+    final int caretOffset = myFixture.getCaretOffset();
+
+    ASTNode chunk = null;
+    final List<ASTNode> untouched = new ArrayList<>();
+    if (chunkType != null) {
+      for (ASTNode node = file.findElementAt(caretOffset).getNode(); node != null && chunk == null; node = node.getTreeParent()) {
+        if (node.getElementType() == chunkType) chunk = node;
+      }
+      assertNotNull(chunk);
+      for (ASTNode statement : file.getNode().getChildren(null)) {
+        if (statement != chunk && !(statement.getPsi() instanceof PsiWhiteSpace)) untouched.add(statement);
+      }
+    }
+    final int textLength = file.getTextLength();
+
+    myFixture.type(typed);
+    PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+
+    final PsiFile expected = PsiFileFactory.getInstance(getProject()).createFileFromText("reparse.drl", DroolsLanguage.INSTANCE, file.getText());
+    assertEquals(DebugUtil.psiToString(expected, true), DebugUtil.psiToString(file, true));
+
+    if (chunk != null) {
+      final TextRange range = chunk.getTextRange();
+      final String chunkText = file.getText().substring(range.getStartOffset(), range.getEndOffset() + file.getTextLength() - textLength);
+      assertEquals(inPlace, ((IReparseableElementTypeBase)chunkType).isParsable(chunk.getTreeParent(), chunkText, DroolsLanguage.INSTANCE, getProject()));
+      if (inPlace) {
+        final List<ASTNode> statements = Arrays.asList(file.getNode().getChildren(null));
+        for (ASTNode statement : untouched) {
+          assertTrue(statement.getText(), ContainerUtil.exists(statements, node -> node == statement));
+        }
+      }
+    }
+  }
+}
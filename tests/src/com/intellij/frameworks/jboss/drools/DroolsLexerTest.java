@@ -3,6 +3,9 @@ package com.intellij.frameworks.jboss.drools;
 
 import com.intellij.lexer.Lexer;
 import com.intellij.plugins.drools.lang.lexer.DroolsLexer;
+import com.intellij.plugins.drools.lang.lexer.DroolsTokenTypes;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
 import com.intellij.testFramework.LexerTestCase;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
@@ -228,6 +231,46 @@ public class DroolsLexerTest extends LexerTestCase {
     doTest("function void foo(){}");
   }
 
+  public void testTopLevelStatementsAreRestartable() {
+    final String text = """
+      package org.example;
+      import org.example.Fact;
+      declare Person
+        name : String
+      end
+      function int twice(int x) {
+        return x * 2;
+      }
+      query adults
+        Person(age > 18)
+      end
+      rule "first"
+      when
+        $p : Person(name == "a")
+      then
+        modify($p) { setName("b") };
+      end
+      rule second
+      when
+        Fact()
+      then
+        System.out.println("done");
+      end""";
+    checkZeroState(text, TokenSet.create(DroolsTokenTypes.RULE, DroolsTokenTypes.DECLARE, DroolsTokenTypes.FUNCTION, DroolsTokenTypes.QUERY));
+    checkCorrectRestart(text);
+  }
+
+  public void testLongConsequence() {
+    final String text = "rule A when then\n" + "  insert(new Fact());\n".repeat(50_000) + "end";
+    final Lexer lexer = createLexer();
+    lexer.start(text);
+    IElementType lastTokenType = null;
+    for (; lexer.getTokenType() != null; lexer.advance()) {
+      lastTokenType = lexer.getTokenType();
+    }
+    assertEquals(DroolsTokenTypes.END, lastTokenType);
+  }
+
   @Override
   protected void doTest(@NonNls @NotNull String text) {
     super.doTest(text);
@@ -33,6 +33,18 @@ public class DroolsHighlightingTest extends DroolsLightTestCase {
     myFixture.testHighlighting(false, false, false, "globalVarsHighlighting.drl");
   }
 
+  public void testParentRuleFromAnotherFile() {
+    myFixture.copyFileToProject("examples/fibonacci/FibonacciExample.java");
+    myFixture.copyFileToProject("ruleExtendsBase.drl");
+    myFixture.testHighlighting(false, false, false, "ruleExtendsAcrossFiles.drl");
+  }
+
+  public void testPackageMembersFromAnotherFile() {
+    myFixture.copyFileToProject("examples/fibonacci/FibonacciExample.java");
+    myFixture.copyFileToProject("packageMembersBase.drl");
+    myFixture.testHighlighting(false, false, false, "packageMembersAcrossFiles.drl");
+  }
+
   public void testDeclaredTypesHighlighting() {
     myFixture.testHighlighting(false, false, false, "declaredTypesHighlighting.drl");
   }
@@ -68,4 +80,11 @@ public class DroolsHighlightingTest extends DroolsLightTestCase {
     myFixture.testHighlighting(false, false, false, "RuleUnitQuery.drl");
   }
 
+  public void testQualifiedMembers() {
+    myFixture.copyFileToProject("examples/qualifiers/Order.java");
+    myFixture.copyFileToProject("examples/qualifiers/Customer.java");
+    myFixture.copyFileToProject("examples/qualifiers/Address.java");
+    myFixture.testHighlighting(false, false, false, "qualifiedMembers.drl");
+  }
+
 }
\ No newline at end of file
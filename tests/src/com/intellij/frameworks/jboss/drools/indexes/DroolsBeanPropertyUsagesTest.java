@@ -0,0 +1,67 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.indexes;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.plugins.drools.lang.psi.DroolsPsiClass;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsBeanPropertyIndex;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclaredSuperTypeIndex;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.MethodReferencesSearch;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.util.containers.ContainerUtil;
+
+import java.util.Collection;
+import java.util.Set;
+
+public class DroolsBeanPropertyUsagesTest extends DroolsLightTestCase {
+  @Override
+  protected String getTestDirectory() {
+    return "indexes";
+  }
+
+  public void testCandidateFilesByType() {
+    myFixture.copyDirectoryToProject("facts", "facts");
+    VirtualFile propertyUsages = myFixture.copyFileToProject("propertyUsages.drl");
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+
+    assertSameElements(DroolsBeanPropertyIndex.getCandidateFiles("total", Set.of("Order"), scope), propertyUsages);
+    assertEmpty(DroolsBeanPropertyIndex.getCandidateFiles("total", Set.of("Customer"), scope));
+  }
+
+  public void testGetterUsagesInConstraints() {
+    myFixture.copyDirectoryToProject("facts", "facts");
+    myFixture.copyFileToProject("propertyUsages.drl");
+
+    PsiMethod getter = myFixture.findClass("facts.Order").findMethodsByName("getTotal", false)[0];
+    Collection<PsiReference> references = MethodReferencesSearch.search(getter).findAll();
+    assertFalse(references.isEmpty());
+    for (PsiReference reference : references) {
+      assertEquals("propertyUsages.drl", reference.getElement().getContainingFile().getName());
+    }
+  }
+
+  public void testGetterUsagesOnDeclaredSubtype() {
+    myFixture.copyDirectoryToProject("facts", "facts");
+    myFixture.copyFileToProject("subtypeUsages.drl");
+
+    PsiMethod getter = myFixture.findClass("facts.Order").findMethodsByName("getTotal", false)[0];
+    Collection<PsiReference> references = MethodReferencesSearch.search(getter).findAll();
+    assertSize(2, references);
+    for (PsiReference reference : references) {
+      assertEquals("subtypeUsages.drl", reference.getElement().getContainingFile().getName());
+    }
+  }
+
+  public void testDeclaredTypesBySuperTypeName() {
+    myFixture.copyFileToProject("subtypeUsages.drl");
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+
+    Collection<DroolsPsiClass> subtypes = StubIndex.getElements(DroolsDeclaredSuperTypeIndex.KEY, "Order", getProject(), scope, DroolsPsiClass.class);
+    assertSameElements(ContainerUtil.map(subtypes, DroolsPsiClass::getName), "BigOrder");
+    subtypes = StubIndex.getElements(DroolsDeclaredSuperTypeIndex.KEY, "BigOrder", getProject(), scope, DroolsPsiClass.class);
+    assertSameElements(ContainerUtil.map(subtypes, DroolsPsiClass::getName), "HugeOrder");
+  }
+}
@@ -0,0 +1,108 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.indexes;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.plugins.drools.lang.psi.DroolsEnumDeclaration;
+import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.plugins.drools.lang.psi.DroolsTypeDeclaration;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsDeclarationsScanner;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.containers.ContainerUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DroolsDeclarationsScannerTest extends DroolsLightTestCase {
+  @Override
+  protected String getTestDirectory() {
+    return "examples";
+  }
+
+  public void testDeclarationForms() {
+    DroolsDeclarationsScanner scanner = DroolsDeclarationsScanner.scan("""
+      // header comment
+      package org . drools.scanner;
+
+      declare Person
+        name : String
+      end
+
+      declare type trait /* comment */ Worker extends Person
+      end
+
+      declare enum Color
+        RED, GREEN;
+      end
+
+      declare entry-point "Stream" end
+
+      declare window Last
+        Person() over window:length( 10 )
+      end
+
+      rule "declare in consequence"
+      when
+      then
+        String declare = "declare Fake end";
+      end
+
+      function void declareNothing() {
+        String s = "declare AlsoFake end";
+      }
+      """);
+
+    assertEquals("org.drools.scanner", scanner.getPackageName());
+    assertEquals(List.of("Person", "Worker", "Color"), scanner.getDeclaredTypes());
+  }
+
+  public void testScannerMatchesPsi() {
+    VirtualFile root = myFixture.copyDirectoryToProject("", "");
+    List<VirtualFile> drlFiles = new ArrayList<>();
+    VfsUtilCore.iterateChildrenRecursively(root, null, file -> {
+      if ("drl".equals(file.getExtension())) drlFiles.add(file);
+      return true;
+    });
+    assertNotEmpty(drlFiles);
+
+    for (VirtualFile file : drlFiles) {
+      PsiFile psiFile = PsiManager.getInstance(getProject()).findFile(file);
+      assertInstanceOf(psiFile, DroolsFile.class);
+      assertScannerMatchesPsi((DroolsFile)psiFile);
+    }
+  }
+
+  public void testScannerMatchesPsiForEnums() {
+    PsiFile psiFile = myFixture.configureByText("enums.drl", """
+      package org.drools.scanner;
+
+      declare enum Color
+        RED, GREEN;
+      end
+
+      declare Person
+        color : Color
+      end
+
+      declare enum Size
+        SMALL, LARGE;
+      end
+      """);
+    assertScannerMatchesPsi((DroolsFile)psiFile);
+  }
+
+  private static void assertScannerMatchesPsi(DroolsFile droolsFile) {
+    String path = droolsFile.getVirtualFile().getPath();
+    DroolsDeclarationsScanner scanner = DroolsDeclarationsScanner.scan(droolsFile.getText());
+    assertEquals(path, droolsFile.getPackageName(), scanner.getPackageName());
+    List<String> declaredTypes = ContainerUtil.mapNotNull(droolsFile.getDeclarations(), declaration -> {
+      DroolsTypeDeclaration typeDeclaration = declaration.getTypeDeclaration();
+      if (typeDeclaration != null) return typeDeclaration.getName();
+      DroolsEnumDeclaration enumDeclaration = declaration.getEnumDeclaration();
+      return enumDeclaration == null ? null : enumDeclaration.getName();
+    });
+    assertEquals(path, declaredTypes, scanner.getDeclaredTypes());
+  }
+}
@@ -0,0 +1,54 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.indexes;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.plugins.drools.lang.psi.DroolsQueryStatement;
+import com.intellij.plugins.drools.lang.psi.DroolsRuleStatement;
+import com.intellij.plugins.drools.lang.psi.searchers.DroolsFactTypeUsagesSearcher;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.containers.ContainerUtil;
+
+import java.util.List;
+
+public class DroolsFactTypeUsagesTest extends DroolsLightTestCase {
+  @Override
+  protected String getTestDirectory() {
+    return "indexes";
+  }
+
+  public void testRulesMatchingClass() {
+    myFixture.copyDirectoryToProject("facts", "facts");
+    myFixture.copyFileToProject("factTypes.drl");
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+
+    PsiClass order = myFixture.findClass("facts.Order");
+    assertTrue(DroolsFactTypeUsagesSearcher.hasPatternCandidates(order, scope));
+    assertSameElements(getNames(DroolsFactTypeUsagesSearcher.findMatchingRules(order, scope)),
+                       "\"Big order\"", "\"Qualified order\"", "\"orders\"");
+
+    PsiClass customer = myFixture.findClass("facts.Customer");
+    assertSameElements(getNames(DroolsFactTypeUsagesSearcher.findMatchingRules(customer, scope)),
+                       "\"Qualified order\"", "\"Only customers\"");
+  }
+
+  public void testOOPathRootsMatchingClass() {
+    myFixture.addClass("package org.drools.ruleunits.api; public interface DataStore<T> {}");
+    myFixture.copyDirectoryToProject("facts", "facts");
+    myFixture.copyFileToProject("units/OrderUnit.java", "facts/OrderUnit.java");
+    myFixture.copyFileToProject("oopathRoots.drl");
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+
+    assertSameElements(getNames(DroolsFactTypeUsagesSearcher.findMatchingRules(myFixture.findClass("facts.Order"), scope)),
+                       "\"Big orders\"");
+    assertSameElements(getNames(DroolsFactTypeUsagesSearcher.findMatchingRules(myFixture.findClass("facts.Customer"), scope)),
+                       "\"Any customer\"");
+  }
+
+  private static List<String> getNames(Iterable<PsiElement> rules) {
+    return ContainerUtil.map(ContainerUtil.newArrayList(rules), rule -> rule instanceof DroolsRuleStatement ruleStatement
+                                                                        ? ruleStatement.getRuleId()
+                                                                        : ((DroolsQueryStatement)rule).getQueryName());
+  }
+}
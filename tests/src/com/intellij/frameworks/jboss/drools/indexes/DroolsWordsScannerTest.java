@@ -0,0 +1,74 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.indexes;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.lang.cacheBuilder.WordOccurrence;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.plugins.drools.lang.psi.searchers.DroolsWordsScanner;
+import com.intellij.psi.impl.cache.CacheManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.UsageSearchContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class DroolsWordsScannerTest extends DroolsLightTestCase {
+  private static final String TEXT = """
+    package org.drools.words;
+
+    // slashcomment
+    # hashcomment
+
+    rule "quotedrule"
+    when
+        $order : Order( name == "stringword" )
+    then
+        String text = "chunkstring";
+        chunkcall($order); /* chunkcomment */
+    end
+    """;
+
+  @Override
+  protected String getTestDirectory() {
+    return "indexes";
+  }
+
+  public void testWordKinds() {
+    Map<String, WordOccurrence.Kind> words = new HashMap<>();
+    new DroolsWordsScanner().processWords(TEXT, occurrence -> {
+      words.put(occurrence.getBaseText().subSequence(occurrence.getStart(), occurrence.getEnd()).toString(), occurrence.getKind());
+      return true;
+    });
+
+    assertEquals(WordOccurrence.Kind.CODE, words.get("$order"));
+    assertEquals(WordOccurrence.Kind.CODE, words.get("Order"));
+    assertEquals(WordOccurrence.Kind.COMMENTS, words.get("slashcomment"));
+    assertEquals(WordOccurrence.Kind.COMMENTS, words.get("hashcomment"));
+    assertEquals(WordOccurrence.Kind.LITERALS, words.get("quotedrule"));
+    assertEquals(WordOccurrence.Kind.LITERALS, words.get("stringword"));
+    assertEquals(WordOccurrence.Kind.CODE, words.get("chunkcall"));
+    assertEquals(WordOccurrence.Kind.LITERALS, words.get("chunkstring"));
+    assertEquals(WordOccurrence.Kind.COMMENTS, words.get("chunkcomment"));
+    assertFalse(words.containsKey("order"));
+  }
+
+  public void testWordsInSearchContexts() {
+    VirtualFile file = myFixture.configureByText("words.drl", TEXT).getVirtualFile();
+
+    assertInContext(file, "$order", UsageSearchContext.IN_CODE);
+    assertInContext(file, "chunkcall", UsageSearchContext.IN_CODE);
+    assertInContext(file, "hashcomment", UsageSearchContext.IN_COMMENTS);
+    assertInContext(file, "chunkcomment", UsageSearchContext.IN_COMMENTS);
+    assertInContext(file, "stringword", UsageSearchContext.IN_STRINGS);
+    assertInContext(file, "chunkstring", UsageSearchContext.IN_STRINGS);
+  }
+
+  private void assertInContext(VirtualFile file, String word, short context) {
+    CacheManager cacheManager = CacheManager.getInstance(getProject());
+    GlobalSearchScope scope = GlobalSearchScope.allScope(getProject());
+    assertSameElements(cacheManager.getVirtualFilesWithWord(word, context, scope, true), file);
+
+    short otherContexts = (short)((UsageSearchContext.IN_CODE | UsageSearchContext.IN_COMMENTS | UsageSearchContext.IN_STRINGS) & ~context);
+    assertEmpty(cacheManager.getVirtualFilesWithWord(word, otherContexts, scope, true));
+  }
+}
@@ -0,0 +1,46 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.resolve;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.plugins.drools.lang.psi.util.DroolsBeanPropertiesCache;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.impl.beanProperties.BeanProperty;
+
+import java.util.Map;
+
+public class DroolsBeanPropertiesCacheTest extends DroolsLightTestCase {
+
+  @Override
+  protected String getTestDirectory() {
+    return "resolve";
+  }
+
+  public void testJavaPropertiesKeptOnDroolsChanges() {
+    final PsiClass order = myFixture.addClass("package facts; public class Order { public int getTotal() { return 0; } }");
+    final PsiFile droolsFile = myFixture.configureByText("orders.drl", "package facts;\n");
+    final DroolsBeanPropertiesCache cache = DroolsBeanPropertiesCache.getInstance(getProject());
+
+    final Map<String, BeanProperty> properties = cache.getProperties(order);
+    assertContainsElements(properties.keySet(), "total");
+
+    edit(droolsFile, "\nrule r when Order() then end\n");
+    assertSame(properties, cache.getProperties(order));
+
+    edit(order.getContainingFile(), "\nclass Other {}\n");
+    assertNotSame(properties, cache.getProperties(order));
+  }
+
+  private void edit(PsiFile file, String appended) {
+    final PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    final Document document = documentManager.getDocument(file);
+    assertNotNull(document);
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+      document.insertString(document.getTextLength(), appended);
+      documentManager.commitDocument(document);
+    });
+  }
+}
@@ -0,0 +1,74 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.resolve;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+
+public class DroolsImportedPackagesResolveTest extends DroolsLightTestCase {
+
+  @Override
+  protected String getTestDirectory() {
+    return "resolve";
+  }
+
+  @Override
+  protected void performSetUp() {
+    myFixture.addClass("package org.facts; public class Order { public int getTotal() { return 0; } }");
+    myFixture.addClass("package org.rules; public class Limit { public int getValue() { return 0; } }");
+  }
+
+  public void testClassOfWildcardImportedPackage() {
+    myFixture.configureByText("wildcard.drl", """
+      package org.rules;
+
+      import org.facts.*;
+
+      rule "big order"
+      when
+        Ord<caret>er( total > 100 )
+      then
+      end
+      """);
+    assertResolvesTo("org.facts.Order");
+  }
+
+  public void testClassOfCurrentPackage() {
+    myFixture.configureByText("current.drl", """
+      package org.rules;
+
+      rule "limit"
+      when
+        Lim<caret>it( value > 100 )
+      then
+      end
+      """);
+    assertResolvesTo("org.rules.Limit");
+  }
+
+  public void testClassesOfImportedPackagesInVariants() {
+    myFixture.configureByText("variants.drl", """
+      package org.rules;
+
+      import org.facts.*;
+
+      declare Local
+        name : String
+      end
+
+      rule "variants"
+      when
+        <caret>
+      then
+      end
+      """);
+    myFixture.completeBasic();
+    assertContainsElements(myFixture.getLookupElementStrings(), "Order", "Limit", "Local");
+  }
+
+  private void assertResolvesTo(String qualifiedName) {
+    PsiElement resolved = myFixture.getReferenceAtCaretPositionWithAssertion().resolve();
+    assertInstanceOf(resolved, PsiClass.class);
+    assertEquals(qualifiedName, ((PsiClass)resolved).getQualifiedName());
+  }
+}
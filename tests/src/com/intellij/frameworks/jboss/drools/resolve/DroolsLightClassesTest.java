@@ -0,0 +1,51 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.resolve;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.plugins.drools.lang.psi.util.DroolsLightClass;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+
+public class DroolsLightClassesTest extends DroolsLightTestCase {
+
+  @Override
+  protected String getTestDirectory() {
+    return "resolve";
+  }
+
+  public void testLightClassesAreShared() {
+    final PsiClass psiClass = myFixture.addClass("package examples.light; public class Fact {}");
+    myFixture.configureByText("light.drl", """
+      package examples.light;
+
+      import examples.light.Fact;
+
+      rule "facts"
+      when
+        Fa<caret>ct()
+      then
+      end
+      """);
+
+    final PsiElement resolved = myFixture.getReferenceAtCaretPositionWithAssertion().resolve();
+    assertInstanceOf(resolved, DroolsLightClass.class);
+    assertSame(resolved, myFixture.getReferenceAtCaretPositionWithAssertion().resolve());
+    assertSame(resolved, DroolsLightClass.getInstance(psiClass));
+
+    final PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    final Document document = documentManager.getDocument(psiClass.getContainingFile());
+    assertNotNull(document);
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+      document.insertString(document.getText().lastIndexOf('}'), "int amount;");
+      documentManager.commitDocument(document);
+    });
+
+    final PsiElement resolvedAfterChange = myFixture.getReferenceAtCaretPositionWithAssertion().resolve();
+    assertInstanceOf(resolvedAfterChange, DroolsLightClass.class);
+    assertNotSame(resolved, resolvedAfterChange);
+    assertSame(resolvedAfterChange, myFixture.getReferenceAtCaretPositionWithAssertion().resolve());
+  }
+}
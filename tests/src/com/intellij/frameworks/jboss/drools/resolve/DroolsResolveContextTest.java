@@ -0,0 +1,48 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.resolve;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveContext;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.containers.ContainerUtil;
+
+public class DroolsResolveContextTest extends DroolsLightTestCase {
+
+  @Override
+  protected String getTestDirectory() {
+    return "resolve";
+  }
+
+  public void testImportedDeclaredTypeUpdatedAfterOtherFileChanges() {
+    PsiFile types = myFixture.addFileToProject("types.drl", """
+      package org.types;
+
+      declare Person
+        name : String
+      end
+      """);
+    DroolsFile droolsFile = (DroolsFile)myFixture.configureByText("main.drl", """
+      package org.main;
+
+      import org.types.Person;
+      """);
+
+    assertSameElements(ContainerUtil.map(DroolsResolveContext.getInstance(droolsFile).getImportedClasses("Person"),
+                                         PsiClass::getQualifiedName), "org.types.Person");
+
+    PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    Document document = documentManager.getDocument(types);
+    assertNotNull(document);
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+      document.setText(document.getText().replace("Person", "Customer"));
+      documentManager.commitDocument(document);
+    });
+
+    assertEmpty(DroolsResolveContext.getInstance(droolsFile).getImportedClasses("Person"));
+  }
+}
@@ -0,0 +1,85 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.resolve;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.plugins.drools.lang.psi.DroolsGlobalStatement;
+import com.intellij.plugins.drools.lang.psi.util.DroolsLightVariable;
+import com.intellij.psi.*;
+
+public class DroolsRhsResolveTest extends DroolsLightTestCase {
+
+  @Override
+  protected String getTestDirectory() {
+    return "resolve";
+  }
+
+  @Override
+  protected void performSetUp() {
+    myFixture.addClass("package org.rules; public class OrderUnit { public void report() {} }");
+    myFixture.addClass("package org.rules; public class Limits { public static final int MAX = 10; }");
+    myFixture.addClass("package org.kie.api.runtime.rule; public interface RuleContext { Object getRule(); }");
+    myFixture.addClass("package org.drools.core.spi; public interface KnowledgeHelper { void halt(); }");
+    myFixture.configureByText("rhs.drl", """
+      package org.rules;
+      unit OrderUnit;
+
+      import static org.rules.Limits.MAX;
+
+      global java.util.List results;
+
+      rule "rhs"
+      when
+      then
+        report();
+        kcontext.getRule();
+        halt();
+        results.add(MAX);
+      end
+      """);
+  }
+
+  public void testUnitMember() {
+    assertMember(resolveAt("report()"), PsiMethod.class, "org.rules.OrderUnit", "report");
+  }
+
+  public void testImplicitVariable() {
+    PsiElement kcontext = resolveAt("kcontext");
+    assertInstanceOf(kcontext, DroolsLightVariable.class);
+    assertEquals("kcontext", ((PsiVariable)kcontext).getName());
+    assertMember(resolveAt("getRule()"), PsiMethod.class, "org.kie.api.runtime.rule.RuleContext", "getRule");
+  }
+
+  public void testImplicitDroolsMember() {
+    assertMember(resolveAt("halt()"), PsiMethod.class, "org.drools.core.spi.KnowledgeHelper", "halt");
+  }
+
+  public void testGlobal() {
+    PsiElement global = resolveAt("results.add");
+    assertInstanceOf(global, DroolsGlobalStatement.class);
+    assertEquals("results", ((PsiVariable)global).getName());
+  }
+
+  public void testImportedStaticMember() {
+    assertMember(resolveAt("MAX)"), PsiField.class, "org.rules.Limits", "MAX");
+  }
+
+  private PsiElement resolveAt(String text) {
+    PsiFile file = myFixture.getFile();
+    int offset = file.getText().lastIndexOf(text);
+    assertTrue(text, offset >= 0);
+    PsiReference reference = file.findReferenceAt(offset);
+    assertNotNull(text, reference);
+    PsiElement resolved = reference.resolve();
+    assertNotNull(text, resolved);
+    return resolved;
+  }
+
+  private static void assertMember(PsiElement element, Class<? extends PsiMember> memberClass, String className, String name) {
+    assertInstanceOf(element, memberClass);
+    PsiMember member = (PsiMember)element;
+    assertEquals(name, member.getName());
+    PsiClass containingClass = member.getContainingClass();
+    assertNotNull(containingClass);
+    assertEquals(className, containingClass.getQualifiedName());
+  }
+}
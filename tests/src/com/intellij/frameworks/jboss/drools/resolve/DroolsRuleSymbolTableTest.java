@@ -0,0 +1,103 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.resolve;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.plugins.drools.lang.psi.DroolsFile;
+import com.intellij.plugins.drools.lang.psi.DroolsRuleStatement;
+import com.intellij.plugins.drools.lang.psi.util.DroolsLightVariable;
+import com.intellij.plugins.drools.lang.psi.util.DroolsRuleSymbolTable;
+import com.intellij.plugins.drools.lang.psi.util.processors.DroolsLhsBindVariablesProcessor;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiVariable;
+import com.intellij.util.containers.ContainerUtil;
+
+public class DroolsRuleSymbolTableTest extends DroolsLightTestCase {
+
+  @Override
+  protected String getTestDirectory() {
+    return "resolve";
+  }
+
+  public void testAccumulateResultKeepsIdentity() {
+    DroolsFile droolsFile = (DroolsFile)myFixture.configureByText("accumulate.drl", """
+      package org.rules;
+
+      rule "count"
+      when
+        accumulate( $s : String() ; $total : count( $s ) )
+        String( length > $to<caret>tal )
+      then
+      end
+      """);
+
+    PsiElement resolved = myFixture.getReferenceAtCaretPositionWithAssertion().resolve();
+    assertInstanceOf(resolved, DroolsLightVariable.class);
+    assertSame(resolved, myFixture.getReferenceAtCaretPositionWithAssertion().resolve());
+
+    DroolsRuleStatement rule = droolsFile.getRules()[0];
+    assertSameElements(DroolsRuleSymbolTable.getInstance(rule).getPatternBinds("$total"), resolved);
+  }
+
+  public void testInheritedBindUpdatedAfterParentFileChanges() {
+    PsiFile base = myFixture.addFileToProject("base.drl", """
+      package org.rules;
+
+      rule "Base"
+      when
+        String( $len : length )
+      then
+      end
+      """);
+    myFixture.configureByText("child.drl", """
+      package org.rules;
+
+      rule "Child" extends "Base"
+      when
+        Integer( intValue > $l<caret>en )
+      then
+      end
+      """);
+
+    PsiElement resolved = myFixture.getReferenceAtCaretPositionWithAssertion().resolve();
+    assertNotNull(resolved);
+    assertEquals(base, resolved.getContainingFile());
+
+    PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+    Document document = documentManager.getDocument(base);
+    assertNotNull(document);
+    WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+      document.setText(document.getText().replace("$len", "$size"));
+      documentManager.commitDocument(document);
+    });
+
+    assertNull(myFixture.getReferenceAtCaretPositionWithAssertion().resolve());
+  }
+
+  public void testUnaryAssignBindNotVisibleInItself() {
+    myFixture.addClass("package org.rules; public class Fact { public int getSequence() { return 0; } }");
+    myFixture.configureByText("unary.drl", """
+      package org.rules;
+
+      rule "sequence"
+      when
+        f1 : Fact( s1 : seq<caret>uence )
+        f2 : Fact( sequence == s1 )
+      then
+      end
+      """);
+    PsiFile file = myFixture.getFile();
+
+    PsiElement inOwnExpression = file.findElementAt(myFixture.getCaretOffset());
+    assertNotNull(inOwnExpression);
+    assertDoesntContain(ContainerUtil.map(DroolsLhsBindVariablesProcessor.getPatternBinds(inOwnExpression), PsiVariable::getName), "s1");
+
+    PsiElement inOtherPattern = file.findElementAt(file.getText().indexOf("== s1") + 3);
+    assertNotNull(inOtherPattern);
+    assertContainsElements(ContainerUtil.map(DroolsLhsBindVariablesProcessor.getPatternBinds(inOtherPattern), PsiVariable::getName),
+                           "f1", "s1", "f2");
+  }
+}
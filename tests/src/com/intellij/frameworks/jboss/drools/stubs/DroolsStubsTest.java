@@ -0,0 +1,180 @@
+// Copyright 2000-2024 JetBrains s.r.o. and contributors. Use of this source code is governed by the Apache 2.0 license.
+package com.intellij.frameworks.jboss.drools.stubs;
+
+import com.intellij.frameworks.jboss.drools.DroolsLightTestCase;
+import com.intellij.navigation.NavigationItem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.plugins.drools.lang.psi.*;
+import com.intellij.plugins.drools.lang.psi.indexes.DroolsFunctionNameIndex;
+import com.intellij.plugins.drools.lang.psi.searchers.DroolsRuleSymbolContributor;
+import com.intellij.plugins.drools.lang.psi.util.DroolsResolveUtil;
+import com.intellij.plugins.drools.lang.psi.util.processors.DroolsLhsBindVariablesProcessor;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiPackage;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiShortNamesCache;
+import com.intellij.testFramework.DumbModeTestUtils;
+import com.intellij.util.CommonProcessors;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.indexing.FindSymbolParameters;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public class DroolsStubsTest extends DroolsLightTestCase {
+  @Override
+  protected String getTestDirectory() {
+    return "stubs";
+  }
+
+  public void testTopLevelDeclarationsWithoutAst() {
+    DroolsFile droolsFile = getDroolsFile("topLevelDeclarations.drl");
+
+    assertEquals("org.drools.stubs", droolsFile.getPackageName());
+    assertEquals("StubsUnit", droolsFile.getUnitName());
+
+    DroolsImportStatement[] imports = droolsFile.getImports();
+    assertSize(3, imports);
+    assertEquals("java.util.List", imports[0].getImportedClassName());
+    assertEquals("java.util", imports[1].getImportedPackage());
+    assertEquals("org.drools.stubs.Utils.log", imports[2].getImportedFunction());
+
+    DroolsGlobalStatement[] globals = droolsFile.getGlobalVariables();
+    assertSize(1, globals);
+    assertEquals("results", globals[0].getName());
+
+    DroolsDeclareStatement[] declarations = droolsFile.getDeclarations();
+    assertSize(2, declarations);
+    DroolsTypeDeclaration typeDeclaration = declarations[0].getTypeDeclaration();
+    assertNotNull(typeDeclaration);
+    assertEquals("org.drools.stubs.Person", typeDeclaration.getQualifiedName());
+    DroolsEnumDeclaration enumDeclaration = declarations[1].getEnumDeclaration();
+    assertNotNull(enumDeclaration);
+    assertEquals("Color", enumDeclaration.getName());
+
+    DroolsFunctionStatement[] functions = droolsFile.getFunctions();
+    assertSize(1, functions);
+    assertEquals("hello", functions[0].getName());
+
+    DroolsQueryStatement[] queries = droolsFile.getQueries();
+    assertSize(1, queries);
+    assertEquals("\"findPerson\"", queries[0].getQueryName());
+
+    DroolsRuleStatement[] rules = droolsFile.getRules();
+    assertSize(2, rules);
+    assertEquals("\"Base\"", rules[0].getRuleId());
+    assertNull(rules[0].getParentRuleId());
+    assertEquals("\"Child\"", rules[1].getRuleId());
+    assertEquals("\"Base\"", rules[1].getParentRuleId());
+
+    assertFalse(droolsFile.isContentsLoaded());
+  }
+
+  public void testStubsMatchAst() {
+    DroolsFile droolsFile = getDroolsFile("topLevelDeclarations.drl");
+    String stubPackage = droolsFile.getPackageName();
+    int stubRules = droolsFile.getRules().length;
+
+    assertNotNull(droolsFile.getNode());
+    assertEquals(stubPackage, droolsFile.getPackageName());
+    assertEquals(stubRules, droolsFile.getRules().length);
+    assertEquals("\"Child\"", droolsFile.getRules()[1].getRuleName().getStringId().getText());
+  }
+
+  public void testDeclaredTypeFoundByQualifiedName() {
+    DroolsFile droolsFile = getDroolsFile("topLevelDeclarations.drl");
+    JavaPsiFacade facade = JavaPsiFacade.getInstance(getProject());
+    GlobalSearchScope scope = GlobalSearchScope.allScope(getProject());
+
+    PsiClass person = facade.findClass("org.drools.stubs.Person", scope);
+    assertNotNull(person);
+    assertEquals("Person", person.getName());
+    assertNull(facade.findClass("org.drools.stubs.Unknown", scope));
+
+    assertFalse(droolsFile.isContentsLoaded());
+  }
+
+  public void testDeclaredEnumFoundByQualifiedName() {
+    DroolsFile droolsFile = getDroolsFile("topLevelDeclarations.drl");
+
+    PsiClass color = JavaPsiFacade.getInstance(getProject()).findClass("org.drools.stubs.Color", GlobalSearchScope.allScope(getProject()));
+    assertNotNull(color);
+    assertTrue(color.isEnum());
+    assertEquals("Color", color.getName());
+
+    assertFalse(droolsFile.isContentsLoaded());
+  }
+
+  public void testDeclaredTypesInPackage() {
+    getDroolsFile("topLevelDeclarations.drl");
+    GlobalSearchScope scope = GlobalSearchScope.allScope(getProject());
+
+    PsiPackage psiPackage = JavaPsiFacade.getInstance(getProject()).findPackage("org.drools.stubs");
+    assertNotNull(psiPackage);
+    assertSameElements(ContainerUtil.map(psiPackage.getClasses(scope), PsiClass::getName), "Person", "Color");
+  }
+
+  public void testDeclaredTypesInShortNamesCache() {
+    DroolsFile droolsFile = getDroolsFile("topLevelDeclarations.drl");
+    PsiShortNamesCache cache = PsiShortNamesCache.getInstance(getProject());
+
+    assertContainsElements(Arrays.asList(cache.getAllClassNames()), "Person", "Color");
+    PsiClass[] classes = cache.getClassesByName("Person", GlobalSearchScope.allScope(getProject()));
+    assertSize(1, classes);
+    assertEquals("org.drools.stubs.Person", classes[0].getQualifiedName());
+    assertSame(JavaPsiFacade.getInstance(getProject()).findClass("org.drools.stubs.Person", GlobalSearchScope.allScope(getProject())),
+               classes[0]);
+
+    assertFalse(droolsFile.isContentsLoaded());
+  }
+
+  public void testRuleFoundByQuotedNameInDumbMode() {
+    DroolsFile droolsFile = getDroolsFile("topLevelDeclarations.drl");
+    DroolsRuleStatement base = droolsFile.getRules()[0];
+
+    DumbModeTestUtils.runInDumbModeSynchronously(getProject(), () -> {
+      assertSame(base, DroolsLhsBindVariablesProcessor.findRuleById("\"Base\"", droolsFile));
+      assertSame(base, DroolsLhsBindVariablesProcessor.findRuleById("Base", droolsFile));
+      assertNull(DroolsLhsBindVariablesProcessor.findRuleById("\"Unknown\"", droolsFile));
+    });
+  }
+
+  public void testRulesInGotoSymbol() {
+    DroolsFile droolsFile = getDroolsFile("topLevelDeclarations.drl");
+    DroolsRuleSymbolContributor contributor = new DroolsRuleSymbolContributor();
+
+    CommonProcessors.CollectProcessor<String> names = new CommonProcessors.CollectProcessor<>();
+    contributor.processNames(names, GlobalSearchScope.allScope(getProject()), null);
+    assertContainsElements(names.getResults(), "Base", "Child");
+
+    CommonProcessors.CollectProcessor<NavigationItem> rules = new CommonProcessors.CollectProcessor<>();
+    contributor.processElementsWithName("Child", rules, FindSymbolParameters.wrap("Child", getProject(), true));
+    assertSameElements(rules.getResults(), droolsFile.getRules()[1]);
+    assertEquals("Child", rules.getResults().iterator().next().getName());
+
+    assertFalse(droolsFile.isContentsLoaded());
+  }
+
+  public void testPackageMembersFilteredByName() {
+    DroolsFile droolsFile = (DroolsFile)myFixture.configureByText("members.drl", """
+      package org.drools.stubs;
+
+      function void first() {}
+      function void second() {}
+      """);
+
+    Collection<DroolsFunctionStatement> functions = DroolsResolveUtil.getPackageMembers(
+      droolsFile, droolsFile.getFunctions(), DroolsFunctionNameIndex.KEY, DroolsFunctionStatement.class, "second");
+    assertSameElements(ContainerUtil.map(functions, DroolsFunctionStatement::getName), "second");
+  }
+
+  private DroolsFile getDroolsFile(String path) {
+    VirtualFile virtualFile = myFixture.copyFileToProject(path);
+    PsiFile psiFile = PsiManager.getInstance(getProject()).findFile(virtualFile);
+    assertInstanceOf(psiFile, DroolsFile.class);
+    return (DroolsFile)psiFile;
+  }
+}
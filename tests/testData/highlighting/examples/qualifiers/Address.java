@@ -0,0 +1,9 @@
+package examples.qualifiers;
+
+public class Address {
+  private String city;
+
+  public String getCity() {
+    return city;
+  }
+}
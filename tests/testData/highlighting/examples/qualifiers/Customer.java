@@ -0,0 +1,14 @@
+package examples.qualifiers;
+
+public class Customer {
+  private String name;
+  private Address address;
+
+  public String getName() {
+    return name;
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+}
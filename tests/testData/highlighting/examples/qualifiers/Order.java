@@ -0,0 +1,9 @@
+package examples.qualifiers;
+
+public class Order {
+  private Customer customer;
+
+  public Customer getCustomer() {
+    return customer;
+  }
+}
@@ -0,0 +1,4 @@
+package facts;
+
+public class Customer {
+}
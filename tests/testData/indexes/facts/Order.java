@@ -0,0 +1,9 @@
+package facts;
+
+public class Order {
+  private int total;
+
+  public int getTotal() {
+    return total;
+  }
+}
@@ -0,0 +1,8 @@
+package facts;
+
+import org.drools.ruleunits.api.DataStore;
+
+public class OrderUnit {
+  private DataStore<Order> orders;
+  private DataStore<Customer> customers;
+}